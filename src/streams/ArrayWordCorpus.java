@@ -0,0 +1,146 @@
+package streams;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * A {@link WordCorpus} holding all characters in one {@code char[]}, with an {@code int[]} column of word
+ * offsets and an {@code int[]} column of precomputed hash codes.
+ * <p>
+ * Per word this costs its characters plus eight bytes, against roughly forty bytes of headers and fields for
+ * a {@code String} and its array.
+ */
+public final class ArrayWordCorpus implements WordCorpus {
+
+    private final char[] chars;
+    /** Word {@code i} occupies {@code chars[offsets[i], offsets[i + 1])}. */
+    private final int[] offsets;
+    private final int[] hashes;
+
+    private ArrayWordCorpus(char[] chars, int[] offsets, int[] hashes) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Appends words one at a time; used by {@link WordCorpus#of(List)} and by code producing words into a
+     * corpus without creating {@code String}s.
+     */
+    public static final class Builder {
+        private char[] chars;
+        private int[] offsets;
+        private int[] hashes;
+        private int size;
+
+        public Builder() {
+            this(16, 128);
+        }
+
+        public Builder(int expectedWords, int expectedChars) {
+            chars = new char[Math.max(16, expectedChars)];
+            offsets = new int[Math.max(16, expectedWords + 1)];
+            hashes = new int[offsets.length - 1];
+        }
+
+        public Builder add(CharSequence word) {
+            int length = word.length();
+            int start = reserve(length);
+            for (int i = 0; i < length; i++) {
+                chars[start + i] = word.charAt(i);
+            }
+            return commit(start, length);
+        }
+
+        public Builder add(char[] source, int from, int length) {
+            int start = reserve(length);
+            System.arraycopy(source, from, chars, start, length);
+            return commit(start, length);
+        }
+
+        public ArrayWordCorpus build() {
+            return new ArrayWordCorpus(Arrays.copyOf(chars, offsets[size]), Arrays.copyOf(offsets, size + 1),
+                    Arrays.copyOf(hashes, size));
+        }
+
+        private int reserve(int length) {
+            int start = offsets[size];
+            if (start + length > chars.length) {
+                long capacity = Math.max((long) start + length, chars.length * 2L);
+                if (capacity > Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("Corpus exceeds " + (Integer.MAX_VALUE - 8) + " characters");
+                }
+                chars = Arrays.copyOf(chars, (int) capacity);
+            }
+            if (size + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                // hashes has one slot per word, offsets one more; keep them in step
+                hashes = Arrays.copyOf(hashes, offsets.length - 1);
+            }
+            return start;
+        }
+
+        private Builder commit(int start, int length) {
+            int hash = 0;
+            for (int i = start; i < start + length; i++) {
+                hash = 31 * hash + chars[i];
+            }
+            hashes[size] = hash;
+            offsets[++size] = start + length;
+            return this;
+        }
+    }
+
+    @Override
+    public int size() {
+        return hashes.length;
+    }
+
+    @Override
+    public int length(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    @Override
+    public String word(int index) {
+        return new String(chars, offsets[index], length(index));
+    }
+
+    @Override
+    public int hash(int index) {
+        return hashes[index];
+    }
+
+    @Override
+    public boolean wordEquals(int i, int j) {
+        return hashes[i] == hashes[j]
+                && Arrays.equals(chars, offsets[i], offsets[i + 1], chars, offsets[j], offsets[j + 1]);
+    }
+
+    @Override
+    public IntPredicate startingWith(String prefix) {
+        char[] p = prefix.toCharArray();
+        return index -> length(index) >= p.length
+                && Arrays.equals(chars, offsets[index], offsets[index] + p.length, p, 0, p.length);
+    }
+
+    @Override
+    public IntPredicate containing(String part) {
+        char[] p = part.toCharArray();
+        if (p.length == 1) {
+            char c = p[0];
+            return index -> {
+                for (int i = offsets[index], end = offsets[index + 1]; i < end; i++) {
+                    if (chars[i] == c) return true;
+                }
+                return false;
+            };
+        }
+        return index -> {
+            for (int i = offsets[index], last = offsets[index + 1] - p.length; i <= last; i++) {
+                if (Arrays.equals(chars, i, i + p.length, p, 0, p.length)) return true;
+            }
+            return false;
+        };
+    }
+}
@@ -0,0 +1,235 @@
+package streams;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates many independent {@link UsingStreams} aggregates in one scan of the words.
+ * <p>
+ * Register queries first; each call returns a {@link Handle} to look its answer up with. {@link #evaluate()}
+ * then feeds every word to every query still undecided. Boolean queries drop out of the loop as soon as
+ * their answer is known, and the scan ends once all queries are decided. {@link #evaluateInParallel()}
+ * scans chunks concurrently, and a boolean query decided in one chunk is skipped in the others.
+ * <pre>
+ *   BatchQuery batch = BatchQuery.over(words);
+ *   Handle&lt;Long&gt; count = batch.getWordCount();
+ *   Handle&lt;Long&gt; a = batch.countWordsStartingWith("a");
+ *   Handle&lt;String&gt; longest = batch.findTheLongestWord();
+ *   BatchQuery.Results results = batch.evaluate();
+ *   results.get(longest);
+ * </pre>
+ */
+public final class BatchQuery {
+
+    static final int MIN_CHUNK = 4096;
+
+    private final List<String> words;
+    private final List<Query<?, ?>> queries = new ArrayList<>();
+
+    private BatchQuery(List<String> words) {
+        this.words = words;
+    }
+
+    public static BatchQuery over(List<String> words) {
+        return new BatchQuery(words);
+    }
+
+    /** Identifies one registered query within its batch. */
+    public static final class Handle<T> {
+        private final BatchQuery batch;
+        private final int index;
+
+        private Handle(BatchQuery batch, int index) {
+            this.batch = batch;
+            this.index = index;
+        }
+    }
+
+    /** The answers of an evaluated batch. */
+    public static final class Results {
+        private final BatchQuery batch;
+        private final Object[] values;
+
+        private Results(BatchQuery batch, Object[] values) {
+            this.batch = batch;
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T get(Handle<T> handle) {
+            if (handle.batch != batch) throw new IllegalArgumentException("Handle belongs to another batch");
+            return (T) values[handle.index];
+        }
+    }
+
+    // region Queries
+    /**
+     * One aggregate: per-chunk state, an update that reports when the answer can no longer change, and an
+     * order-aware combine of two adjacent chunks' states.
+     */
+    private record Query<S, T>(Supplier<S> initial, BiPredicate<S, String> accept, BinaryOperator<S> combine,
+                               Function<S, T> finish, boolean decidedAnywhere) {
+    }
+
+    private <S, T> Handle<T> register(Query<S, T> query) {
+        queries.add(query);
+        return new Handle<>(this, queries.size() - 1);
+    }
+
+    private Handle<Long> count(Predicate<String> matches) {
+        return register(new Query<long[], Long>(() -> new long[1],
+                (state, word) -> {
+                    if (matches.test(word)) state[0]++;
+                    return false;
+                },
+                (a, b) -> new long[]{a[0] + b[0]}, state -> state[0], false));
+    }
+
+    private Handle<Boolean> anyMatch(Predicate<String> matches) {
+        return register(new Query<boolean[], Boolean>(() -> new boolean[1],
+                (state, word) -> state[0] = matches.test(word),
+                (a, b) -> new boolean[]{a[0] || b[0]}, state -> state[0], true));
+    }
+
+    private Handle<Boolean> allMatch(Predicate<String> matches) {
+        return register(new Query<boolean[], Boolean>(() -> new boolean[]{true},
+                (state, word) -> !(state[0] = matches.test(word)),
+                (a, b) -> new boolean[]{a[0] && b[0]}, state -> state[0], true));
+    }
+
+    /** The first word whose length beats all earlier ones under {@code better}. */
+    private Handle<String> firstBest(BiPredicate<Integer, Integer> better) {
+        return register(new Query<String[], String>(() -> new String[1],
+                (state, word) -> {
+                    if (state[0] == null || better.test(word.length(), state[0].length())) state[0] = word;
+                    return false;
+                },
+                (a, b) -> a[0] == null || (b[0] != null && better.test(b[0].length(), a[0].length())) ? b : a,
+                state -> state[0], false));
+    }
+
+    public Handle<Long> getWordCount() {
+        return count(word -> true);
+    }
+
+    public Handle<Long> countWordsStartingWith(String start) {
+        return count(word -> word.startsWith(start));
+    }
+
+    public Handle<Boolean> checkIfStartsWith(String start) {
+        return anyMatch(word -> word.startsWith(start));
+    }
+
+    public Handle<Boolean> noWordsStartWith(String start) {
+        return allMatch(word -> !word.startsWith(start));
+    }
+
+    /** True if every word is longer than {@code count}. */
+    public Handle<Boolean> hasWordsGreaterThan(int count) {
+        return allMatch(word -> word.length() > count);
+    }
+
+    public Handle<Boolean> hasNoWordMoreThan(int count) {
+        return allMatch(word -> word.length() <= count);
+    }
+
+    public Handle<Boolean> allWordsEndWith(String end) {
+        return allMatch(word -> word.endsWith(end));
+    }
+
+    public Handle<Boolean> allWordsHaveAtLeastLengthOf(int length) {
+        return allMatch(word -> word.length() >= length);
+    }
+
+    public Handle<Boolean> hasAnyWordExactlyCharacters(int length) {
+        return anyMatch(word -> word.length() == length);
+    }
+
+    public Handle<Boolean> hasWordContainingDigit() {
+        return anyMatch(word -> word.chars().anyMatch(Character::isDigit));
+    }
+
+    public Handle<String> findTheLongestWord() {
+        return firstBest((length, best) -> length > best);
+    }
+
+    public Handle<String> findTheShortestWord() {
+        return firstBest((length, best) -> length < best);
+    }
+    // endregion
+
+    // region Evaluation
+    public Results evaluate() {
+        return new Results(this, finish(scan(0, words.size(), new AtomicBoolean[queries.size()])));
+    }
+
+    public Results evaluateInParallel() {
+        int n = words.size();
+        AtomicBoolean[] decided = new AtomicBoolean[queries.size()];
+        for (int q = 0; q < decided.length; q++) {
+            if (queries.get(q).decidedAnywhere()) decided[q] = new AtomicBoolean();
+        }
+        int chunk = Math.max(MIN_CHUNK, n / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+        int chunks = (n + chunk - 1) / chunk;
+        Object[] states = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> scan(c * chunk, Math.min(n, (c + 1) * chunk), decided))
+                .reduce(this::combine)
+                .orElseGet(() -> scan(0, 0, decided));
+        return new Results(this, finish(states));
+    }
+
+    /** Scans {@code words[from, to)} with fresh states for every query. */
+    @SuppressWarnings("unchecked")
+    private Object[] scan(int from, int to, AtomicBoolean[] decidedElsewhere) {
+        int q = queries.size();
+        Object[] states = new Object[q];
+        int[] active = new int[q];
+        int activeCount = 0;
+        for (int i = 0; i < q; i++) {
+            states[i] = queries.get(i).initial().get();
+            active[activeCount++] = i;
+        }
+        List<String> range = words.subList(from, to);
+        for (String word : range) {
+            if (activeCount == 0) break;
+            for (int a = 0; a < activeCount; a++) {
+                int i = active[a];
+                AtomicBoolean shared = decidedElsewhere[i];
+                boolean done = shared != null && shared.get();
+                if (!done && ((BiPredicate<Object, String>) queries.get(i).accept()).test(states[i], word)) {
+                    done = true;
+                    if (shared != null) shared.set(true);
+                }
+                if (done) {
+                    active[a--] = active[--activeCount];
+                }
+            }
+        }
+        return states;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] combine(Object[] left, Object[] right) {
+        Object[] merged = new Object[left.length];
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] = ((BinaryOperator<Object>) queries.get(i).combine()).apply(left[i], right[i]);
+        }
+        return merged;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] finish(Object[] states) {
+        Object[] values = new Object[states.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ((Function<Object, Object>) queries.get(i).finish()).apply(states[i]);
+        }
+        return values;
+    }
+    // endregion
+}
@@ -0,0 +1,84 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchQueryTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    @Test
+    @DisplayName("One scan answers every registered query ...")
+    void evaluate_answersAllQueries() {
+        // given
+        BatchQuery batch = BatchQuery.over(words);
+        BatchQuery.Handle<Long> count = batch.getWordCount();
+        BatchQuery.Handle<Long> a = batch.countWordsStartingWith("a");
+        BatchQuery.Handle<Long> z = batch.countWordsStartingWith("z");
+        BatchQuery.Handle<Boolean> greater3 = batch.hasWordsGreaterThan(3);
+        BatchQuery.Handle<Boolean> greater100 = batch.hasWordsGreaterThan(100);
+        BatchQuery.Handle<Boolean> endWithE = batch.allWordsEndWith("e");
+        BatchQuery.Handle<Boolean> startsWithG = batch.checkIfStartsWith("g");
+        BatchQuery.Handle<Boolean> noZ = batch.noWordsStartWith("z");
+        BatchQuery.Handle<Boolean> digit = batch.hasWordContainingDigit();
+        BatchQuery.Handle<String> longest = batch.findTheLongestWord();
+        BatchQuery.Handle<String> shortest = batch.findTheShortestWord();
+        // when
+        BatchQuery.Results results = batch.evaluate();
+        // then
+        assertEquals(7L, results.get(count));
+        assertEquals(2L, results.get(a));
+        assertEquals(0L, results.get(z));
+        assertTrue(results.get(greater3));
+        assertFalse(results.get(greater100));
+        assertFalse(results.get(endWithE));
+        assertTrue(results.get(startsWithG));
+        assertTrue(results.get(noZ));
+        assertFalse(results.get(digit));
+        assertEquals("banana", results.get(longest));
+        assertEquals("pear", results.get(shortest));
+    }
+
+    @Test
+    @DisplayName("Parallel evaluation agrees with sequential evaluation ...")
+    void evaluateInParallel_matchesSequential() {
+        // given
+        List<String> large = new ArrayList<>(UsingStreamsBenchmark.generate(50_000, UsingStreamsBenchmark.LengthDistribution.SKEWED, 0.5, 9));
+        large.add(30_000, "digit7");
+        BatchQuery batch = BatchQuery.over(large);
+        List<BatchQuery.Handle<?>> handles = List.of(
+                batch.getWordCount(), batch.countWordsStartingWith("q"), batch.hasWordContainingDigit(),
+                batch.allWordsHaveAtLeastLengthOf(1), batch.hasAnyWordExactlyCharacters(31),
+                batch.hasNoWordMoreThan(5), batch.findTheLongestWord(), batch.findTheShortestWord());
+        // when
+        BatchQuery.Results sequential = batch.evaluate();
+        BatchQuery.Results parallel = batch.evaluateInParallel();
+        // then
+        for (BatchQuery.Handle<?> handle : handles) {
+            assertEquals(sequential.get(handle), parallel.get(handle));
+        }
+        assertTrue(parallel.get(handles.get(2)) instanceof Boolean b && b);
+    }
+
+    @Test
+    @DisplayName("Handles are bound to their batch ...")
+    void get_rejectsForeignHandle() {
+        // given
+        BatchQuery.Handle<Long> foreign = BatchQuery.over(words).getWordCount();
+        BatchQuery.Results results = BatchQuery.over(words).evaluate();
+        // then
+        assertThrows(IllegalArgumentException.class, () -> results.get(foreign));
+    }
+}
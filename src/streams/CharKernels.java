@@ -0,0 +1,245 @@
+package streams;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * Per-word character transformations that allocate at most the result.
+ * <p>
+ * Each {@link Kernel} runs in a single pass over the word, writing into a reusable per-thread buffer; pure
+ * ASCII input is mapped through lookup tables, and only non-ASCII words fall back to the {@code String}
+ * methods. Case mapping is locale-independent on both paths ({@link Locale#ROOT}). The result is then either one new {@code String}, the input itself when nothing changed, or no
+ * object at all when written into an {@link ArrayWordCorpus.Builder}.
+ * <pre>
+ *   List&lt;String&gt; upper = CharKernels.upperCase().applyAll(words);          // getUpperCase
+ *   ArrayWordCorpus x = CharKernels.vowelsReplacedWith("X").applyToCorpus(words); // replaceVowelsInEachWordWith
+ * </pre>
+ */
+public final class CharKernels {
+
+    /** Returned by a kernel body when the word is left as it is. */
+    private static final int UNCHANGED = -1;
+    /** Buffers up to this size are kept per thread; larger words get a temporary one. */
+    private static final int MAX_RETAINED_BUFFER = 1 << 16;
+
+    private static final char[] UPPER = new char[128];
+    private static final boolean[] VOWEL = new boolean[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            UPPER[c] = c >= 'a' && c <= 'z' ? (char) (c - 32) : c;
+        }
+        for (char c : "aeiouAEIOU".toCharArray()) {
+            VOWEL[c] = true;
+        }
+    }
+
+    private static final ThreadLocal<char[][]> BUFFER = ThreadLocal.withInitial(() -> new char[][]{new char[64]});
+
+    private CharKernels() {
+    }
+
+    /** Writes the transformed word into {@link #buffer(int)} and returns its length, or {@link #UNCHANGED}. */
+    private interface Body {
+        int run(String word);
+    }
+
+    /** A destination for transformed characters that does not need them as a {@code String}. */
+    interface CharSink {
+        void write(String word) throws IOException;
+
+        void write(char[] chars, int offset, int length) throws IOException;
+    }
+
+    /**
+     * A word transformation; see the factory methods of {@link CharKernels}.
+     */
+    public static final class Kernel implements UnaryOperator<String> {
+        private final Body body;
+
+        private Kernel(Body body) {
+            this.body = body;
+        }
+
+        @Override
+        public String apply(String word) {
+            int length = body.run(word);
+            return length == UNCHANGED ? word : new String(currentBuffer(), 0, length);
+        }
+
+        public void applyInto(String word, ArrayWordCorpus.Builder out) {
+            int length = body.run(word);
+            if (length == UNCHANGED) out.add(word);
+            else out.add(currentBuffer(), 0, length);
+        }
+
+        void applyTo(String word, CharSink out) throws IOException {
+            int length = body.run(word);
+            if (length == UNCHANGED) out.write(word);
+            else out.write(currentBuffer(), 0, length);
+        }
+
+        public List<String> applyAll(List<String> words) {
+            List<String> result = new ArrayList<>(words.size());
+            for (String word : words) {
+                result.add(apply(word));
+            }
+            return result;
+        }
+
+        public ArrayWordCorpus applyToCorpus(List<String> words) {
+            ArrayWordCorpus.Builder out = new ArrayWordCorpus.Builder(words.size(), 8 * words.size());
+            for (String word : words) {
+                applyInto(word, out);
+            }
+            return out.build();
+        }
+    }
+
+    // region Kernels
+    /**
+     * @see UsingStreams#getUpperCase(String[])
+     * @see UsingStreams#printWordsThenReturnAsUppercase(List)
+     */
+    public static Kernel upperCase() {
+        return new Kernel(word -> {
+            int length = word.length();
+            int first = 0;
+            while (first < length && word.charAt(first) < 128 && UPPER[word.charAt(first)] == word.charAt(first)) {
+                first++;
+            }
+            if (first == length) return UNCHANGED;
+            char[] out = buffer(length);
+            for (int i = 0; i < length; i++) {
+                char c = word.charAt(i);
+                if (c >= 128) {
+                    String upper = word.toUpperCase(Locale.ROOT);
+                    return upper.equals(word) ? UNCHANGED : fallback(upper);
+                }
+                out[i] = UPPER[c];
+            }
+            return length;
+        });
+    }
+
+    /**
+     * Replaces every occurrence of {@code orig} with {@code replacement}, like {@link String#replace}.
+     *
+     * @see UsingStreams#replaceOccurrencesWith(List, String, String)
+     */
+    public static Kernel replacing(String orig, String replacement) {
+        if (orig.length() != 1) {
+            return new Kernel(word -> {
+                String replaced = word.replace(orig, replacement);
+                return replaced.equals(word) ? UNCHANGED : fallback(replaced);
+            });
+        }
+        char target = orig.charAt(0);
+        return new Kernel(word -> replaceChars(word, c -> c == target, replacement));
+    }
+
+    /**
+     * Replaces each of a, e, i, o, u (either case) with {@code replacement}.
+     *
+     * @see UsingStreams#replaceVowelsInEachWordWith(List, String)
+     */
+    public static Kernel vowelsReplacedWith(String replacement) {
+        return new Kernel(word -> replaceChars(word, c -> c < 128 && VOWEL[c], replacement));
+    }
+
+    /**
+     * Reverses the characters of each word, keeping surrogate pairs intact.
+     *
+     * @see UsingStreams#reverseEachWord(List)
+     */
+    public static Kernel reversed() {
+        return new Kernel(word -> {
+            int length = word.length();
+            if (length < 2) return UNCHANGED;
+            char[] out = buffer(length);
+            for (int i = 0; i < length; i++) {
+                char c = word.charAt(i);
+                if (Character.isSurrogate(c)) return fallback(new StringBuilder(word).reverse().toString());
+                out[length - 1 - i] = c;
+            }
+            return length;
+        });
+    }
+
+    /**
+     * @see UsingStreams#convertTheFirstLetterToUppercase(List)
+     */
+    public static Kernel capitalized() {
+        return new Kernel(word -> {
+            if (word.isEmpty()) return UNCHANGED;
+            char first = word.charAt(0);
+            if (first >= 128) {
+                int end = word.offsetByCodePoints(0, 1);
+                return fallback(word.substring(0, end).toUpperCase(Locale.ROOT) + word.substring(end));
+            }
+            if (UPPER[first] == first) return UNCHANGED;
+            int length = word.length();
+            char[] out = buffer(length);
+            word.getChars(1, length, out, 1);
+            out[0] = UPPER[first];
+            return length;
+        });
+    }
+    // endregion
+
+    // region Helpers
+    private interface CharTest {
+        boolean test(char c);
+    }
+
+    private static int replaceChars(String word, CharTest matches, String replacement) {
+        int length = word.length();
+        int hits = 0;
+        for (int i = 0; i < length; i++) {
+            if (matches.test(word.charAt(i))) hits++;
+        }
+        if (hits == 0) return UNCHANGED;
+        int extra = replacement.length() - 1;
+        char[] out = buffer(Math.toIntExact(length + (long) hits * extra));
+        int o = 0;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (!matches.test(c)) {
+                out[o++] = c;
+            } else if (extra == 0) {
+                out[o++] = replacement.charAt(0);
+            } else {
+                replacement.getChars(0, replacement.length(), out, o);
+                o += replacement.length();
+            }
+        }
+        return o;
+    }
+
+    /** Copies a result computed the slow way into the buffer. */
+    private static int fallback(String result) {
+        char[] out = buffer(result.length());
+        result.getChars(0, result.length(), out, 0);
+        return result.length();
+    }
+
+    private static char[] buffer(int minLength) {
+        char[][] holder = BUFFER.get();
+        if (holder[0].length < minLength) {
+            holder[0] = new char[Math.max(minLength, holder[0].length * 2)];
+        }
+        return holder[0];
+    }
+
+    /** Returns the buffer the last kernel wrote to, and stops retaining it if it grew too large. */
+    private static char[] currentBuffer() {
+        char[][] holder = BUFFER.get();
+        char[] current = holder[0];
+        if (current.length > MAX_RETAINED_BUFFER) {
+            holder[0] = new char[64];
+        }
+        return current;
+    }
+    // endregion
+}
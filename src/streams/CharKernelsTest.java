@@ -0,0 +1,82 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharKernelsTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    @Test
+    @DisplayName("Uppercase each word ...")
+    void upperCase() {
+        assertEquals(List.of("APPLE", "BANANA", "ORANGE", "GRAPE", "PEAR", "KIWI", "APPLE"), CharKernels.upperCase().applyAll(words));
+        assertEquals("STRASSE", CharKernels.upperCase().apply("straße"));
+        String already = "KIWI";
+        assertSame(already, CharKernels.upperCase().apply(already));
+    }
+
+    @Test
+    @DisplayName("Uppercase independently of the default locale ...")
+    void upperCase_ignoresDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // given: a locale that maps 'i' to a dotted capital I
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            // then: the ASCII and non-ASCII paths agree
+            assertEquals("KIWI", CharKernels.upperCase().apply("kiwi"));
+            assertEquals("KIWIÉ", CharKernels.upperCase().apply("kiwié"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    @DisplayName("Replace all occurrences of a letter with ...")
+    void replacing() {
+        assertEquals(List.of("Xpple", "bXnXnX", "orXnge", "grXpe", "peXr", "kiwi", "Xpple"), CharKernels.replacing("a", "X").applyAll(words));
+        assertEquals(List.of("apple", "banana", "orange", "grape", "pear", "iwi", "apple"), CharKernels.replacing("k", "").applyAll(words));
+        assertEquals("bYYnYYnYY", CharKernels.replacing("a", "YY").apply("banana"));
+        assertEquals("b--a", CharKernels.replacing("an", "-").apply("banana"));
+    }
+
+    @Test
+    @DisplayName("Replace vowels in each word with ...")
+    void vowelsReplacedWith() {
+        assertEquals(List.of("XpplX", "bXnXnX", "XrXngX", "grXpX", "pXXr", "kXwX", "XpplX"), CharKernels.vowelsReplacedWith("X").applyAll(words));
+        assertEquals("crèmX", CharKernels.vowelsReplacedWith("X").apply("crème"));
+    }
+
+    @Test
+    @DisplayName("Reverse and capitalize each word ...")
+    void reversedAndCapitalized() {
+        assertEquals(List.of("elppa", "ananab", "egnaro", "eparg", "raep", "iwik", "elppa"), CharKernels.reversed().applyAll(words));
+        assertEquals("b😀a", CharKernels.reversed().apply("a😀b"));
+        assertEquals(List.of("Apple", "Banana", "Orange", "Grape", "Pear", "Kiwi", "Apple"), CharKernels.capitalized().applyAll(words));
+        assertEquals("Élan", CharKernels.capitalized().apply("élan"));
+        assertEquals("", CharKernels.capitalized().apply(""));
+    }
+
+    @Test
+    @DisplayName("Kernels write into a columnar corpus ...")
+    void applyToCorpus() {
+        // when
+        ArrayWordCorpus corpus = CharKernels.upperCase().applyToCorpus(words);
+        // then
+        assertEquals(CharKernels.upperCase().applyAll(words), corpus.toList());
+        assertEquals("X".repeat(100_000), CharKernels.vowelsReplacedWith("X").apply("a".repeat(100_000)));
+        assertEquals("BIG", CharKernels.upperCase().apply("big"));
+    }
+}
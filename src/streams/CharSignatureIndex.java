@@ -0,0 +1,121 @@
+package streams;
+
+import java.util.*;
+
+/**
+ * A read-only index of which ASCII characters each word contains, for contains-letter and digit queries.
+ * <p>
+ * Every word gets a 128-bit signature, one bit per ASCII character, stored as two {@code long}s in a single
+ * primitive array. A query then tests the signature instead of the characters: a single ASCII letter is
+ * answered by one bitwise test, longer ASCII substrings only verify the words whose signature holds all of
+ * their characters, and words with non-ASCII characters fall back to scanning for the checks that depend on
+ * those characters.
+ */
+public class CharSignatureIndex {
+
+    /** Bits of the low word set for '0'..'9'. */
+    private static final long DIGITS = 0x3FFL << '0';
+    /** Bits of the high word set for 'a'..'z'. */
+    private static final long LOWERCASE = 0x3FFFFFFL << ('a' - 64);
+
+    private final String[] words;
+    /** Two entries per word: characters 0..63, then 64..127. */
+    private final long[] signatures;
+    private final BitSet nonAscii;
+
+    private CharSignatureIndex(String[] words) {
+        this.words = words;
+        this.signatures = new long[words.length * 2];
+        this.nonAscii = new BitSet(words.length);
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            long lo = 0, hi = 0;
+            for (int j = 0; j < word.length(); j++) {
+                char c = word.charAt(j);
+                if (c < 64) lo |= 1L << c;
+                else if (c < 128) hi |= 1L << c;
+                else nonAscii.set(i);
+            }
+            signatures[2 * i] = lo;
+            signatures[2 * i + 1] = hi;
+        }
+    }
+
+    /**
+     * @param words given list of strings, must not contain {@code null}
+     */
+    public static CharSignatureIndex of(List<String> words) {
+        return new CharSignatureIndex(words.toArray(new String[0]));
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    // region Queries
+    /**
+     * @return the words containing {@code letter}, in original order
+     * @see UsingStreams#findWordsContaining(List, String)
+     * @see UsingStreams#removeWordsContaining(List, String)
+     */
+    public List<String> containing(String letter) {
+        return select(letter, true);
+    }
+
+    /**
+     * @return the words not containing {@code letter}, in original order
+     * @see UsingStreams#removeWordsContainingTheLetter(List, String)
+     */
+    public List<String> notContaining(String letter) {
+        return select(letter, false);
+    }
+
+    /**
+     * @see UsingStreams#hasWordContainingDigit(List)
+     */
+    public boolean hasWordContainingDigit() {
+        for (int i = 0; i < words.length; i++) {
+            if ((signatures[2 * i] & DIGITS) != 0) return true;
+        }
+        for (int i = nonAscii.nextSetBit(0); i >= 0; i = nonAscii.nextSetBit(i + 1)) {
+            if (words[i].chars().anyMatch(Character::isDigit)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if no word changes when upper-cased
+     * @see UsingStreams#allWordsUppercase(List)
+     */
+    public boolean allWordsUppercase() {
+        for (int i = 0; i < words.length; i++) {
+            if ((signatures[2 * i + 1] & LOWERCASE) != 0) return false;
+        }
+        for (int i = nonAscii.nextSetBit(0); i >= 0; i = nonAscii.nextSetBit(i + 1)) {
+            if (!words[i].equals(words[i].toUpperCase())) return false;
+        }
+        return true;
+    }
+    // endregion
+
+    private List<String> select(String letter, boolean contained) {
+        long lo = 0, hi = 0;
+        boolean asciiQuery = true;
+        for (int j = 0; j < letter.length(); j++) {
+            char c = letter.charAt(j);
+            if (c < 64) lo |= 1L << c;
+            else if (c < 128) hi |= 1L << c;
+            else asciiQuery = false;
+        }
+        // a single ASCII char is fully decided by its bit; anything longer needs a look at the candidates
+        boolean exact = asciiQuery && letter.length() <= 1;
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            boolean candidate = (signatures[2 * i] & lo) == lo && (signatures[2 * i + 1] & hi) == hi
+                    && (asciiQuery || nonAscii.get(i));
+            boolean contains = candidate && (exact || words[i].contains(letter));
+            if (contains == contained) result.add(words[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,63 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharSignatureIndexTest {
+    // region Fields
+    List<String> words;
+    CharSignatureIndex index;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+        index = CharSignatureIndex.of(words);
+    }
+
+    @Test
+    @DisplayName("Return words that contain ...")
+    void containing_returnWordsThatContain() {
+        assertEquals(List.of("apple", "grape", "pear", "apple"), index.containing("p"));
+        assertEquals(List.of("kiwi"), index.containing("k"));
+        assertEquals(List.of("apple", "apple"), index.containing("pl"));
+        assertEquals(List.of(), index.containing("lp"));
+        assertEquals(List.of(), index.containing("z"));
+    }
+
+    @Test
+    @DisplayName("Return words without the words containing the letter ...")
+    void notContaining_removeWordsContainingTheLetter() {
+        assertEquals(List.of("apple", "banana", "orange", "grape", "pear", "apple"), index.notContaining("k"));
+        assertEquals(List.of("apple", "banana", "grape", "pear", "kiwi", "apple"), index.notContaining("o"));
+    }
+
+    @Test
+    @DisplayName("Digit and uppercase checks ...")
+    void digitsAndUppercase() {
+        assertFalse(index.hasWordContainingDigit());
+        assertTrue(CharSignatureIndex.of(List.of("apple", "apple1")).hasWordContainingDigit());
+        assertFalse(index.allWordsUppercase());
+        assertTrue(CharSignatureIndex.of(words.stream().map(String::toUpperCase).toList()).allWordsUppercase());
+    }
+
+    @Test
+    @DisplayName("Non-ASCII words fall back to scanning ...")
+    void nonAsciiWords() {
+        // given
+        CharSignatureIndex unicode = CharSignatureIndex.of(List.of("café", "ÉCOLE", "naïve", "x٣"));
+        // then
+        assertEquals(List.of("café"), unicode.containing("é"));
+        assertEquals(List.of("naïve"), unicode.containing("ïv"));
+        assertEquals(List.of("café", "ÉCOLE", "x٣"), unicode.notContaining("ï"));
+        assertTrue(unicode.hasWordContainingDigit());
+        assertFalse(unicode.allWordsUppercase());
+        assertTrue(CharSignatureIndex.of(List.of("ÉCOLE", "ÜBER")).allWordsUppercase());
+    }
+}
@@ -0,0 +1,68 @@
+package streams;
+
+import java.util.Arrays;
+
+/**
+ * Occurrence counts of the distinct words of a {@link WordCorpus}, computed without creating a {@code String}
+ * per word.
+ * <p>
+ * Each distinct word is represented by the index of its first occurrence; the hash table compares words
+ * through {@link WordCorpus#hash(int)} and {@link WordCorpus#wordEquals(int, int)}.
+ */
+final class CorpusCounts {
+
+    /** First-occurrence index of each distinct word, in first-seen order. */
+    final int[] representatives;
+    final long[] counts;
+    final int size;
+
+    private CorpusCounts(int[] representatives, long[] counts, int size) {
+        this.representatives = representatives;
+        this.counts = counts;
+        this.size = size;
+    }
+
+    static CorpusCounts of(WordCorpus corpus) {
+        int[] representatives = new int[16];
+        long[] counts = new long[16];
+        int size = 0;
+        int[] table = new int[32];
+        for (int index = 0; index < corpus.size(); index++) {
+            int hash = corpus.hash(index) * 0x9E3779B9;
+            hash ^= hash >>> 16;
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            while (table[slot] != 0 && !corpus.wordEquals(representatives[table[slot] - 1], index)) {
+                slot = (slot + 1) & mask;
+            }
+            if (table[slot] != 0) {
+                counts[table[slot] - 1]++;
+                continue;
+            }
+            if (size == representatives.length) {
+                representatives = Arrays.copyOf(representatives, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            representatives[size] = index;
+            counts[size] = 1;
+            table[slot] = ++size;
+            if (size * 2 > table.length) {
+                table = rehash(corpus, representatives, size, table.length * 2);
+            }
+        }
+        return new CorpusCounts(representatives, counts, size);
+    }
+
+    private static int[] rehash(WordCorpus corpus, int[] representatives, int size, int capacity) {
+        int[] table = new int[capacity];
+        int mask = capacity - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int hash = corpus.hash(representatives[entry]) * 0x9E3779B9;
+            hash ^= hash >>> 16;
+            int slot = hash & mask;
+            while (table[slot] != 0) slot = (slot + 1) & mask;
+            table[slot] = entry + 1;
+        }
+        return table;
+    }
+}
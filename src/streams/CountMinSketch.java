@@ -0,0 +1,104 @@
+package streams;
+
+/**
+ * Approximate word counts in fixed memory.
+ * <p>
+ * A {@code depth x width} table of counters; each word increments one counter per row and its estimate is the
+ * minimum over its counters. Estimates never undercount, and with probability at least {@code 1 - delta}
+ * overcount by at most {@code epsilon} times the total number of words added, where
+ * {@code width = ceil(e / epsilon)} and {@code depth = ceil(ln(1 / delta))}.
+ * <p>
+ * Sketches of the same dimensions can be {@link #merge(CountMinSketch) merged}, so threads can fill their own
+ * and combine them. Not thread-safe.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] table;
+    private long total;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) throw new IllegalArgumentException("width and depth must be positive");
+        this.width = width;
+        this.depth = depth;
+        this.table = new long[Math.multiplyExact(width, depth)];
+    }
+
+    public static CountMinSketch withErrorBounds(double epsilon, double delta) {
+        if (epsilon <= 0 || delta <= 0 || delta >= 1) throw new IllegalArgumentException("need epsilon > 0 and 0 < delta < 1");
+        return new CountMinSketch((int) Math.ceil(Math.E / epsilon), (int) Math.ceil(Math.log(1 / delta)));
+    }
+
+    /**
+     * @param bytes memory to spend on counters, split evenly over {@code depth} rows
+     */
+    public static CountMinSketch withMemoryBudget(long bytes, int depth) {
+        return new CountMinSketch((int) Math.max(1, Math.min(Integer.MAX_VALUE / depth, bytes / Long.BYTES / depth)), depth);
+    }
+
+    public void add(String word) {
+        add(word, 1);
+    }
+
+    public void add(String word, long count) {
+        long hash = WordHash.hash64(word);
+        for (int row = 0; row < depth; row++) {
+            table[row * width + column(hash, row)] += count;
+        }
+        total += count;
+    }
+
+    /**
+     * @return an estimate that is never below the true count
+     */
+    public long estimate(String word) {
+        long hash = WordHash.hash64(word);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[row * width + column(hash, row)]);
+        }
+        return min;
+    }
+
+    public CountMinSketch merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge sketches of different dimensions");
+        }
+        for (int i = 0; i < table.length; i++) {
+            table[i] += other.table[i];
+        }
+        total += other.total;
+        return this;
+    }
+
+    /**
+     * @return the number of words added
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * @return the overcount bound {@code e / width} as a fraction of {@link #total()}
+     */
+    public double epsilon() {
+        return Math.E / width;
+    }
+
+    public long memoryBytes() {
+        return (long) table.length * Long.BYTES;
+    }
+
+    /** Row {@code row}'s column by double hashing the two halves of the 64-bit hash. */
+    private int column(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    @Override
+    public String toString() {
+        return "CountMinSketch[width=" + width + ", depth=" + depth + ", total=" + total + "]";
+    }
+}
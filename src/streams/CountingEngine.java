@@ -0,0 +1,140 @@
+package streams;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts word occurrences, either in one parallel pass over a list or live from many producer threads.
+ * <p>
+ * {@link #countOf(List)} produces the same result as {@link UsingStreams#getCounts(List)}: the input is
+ * split into index ranges on the common fork/join pool, each range counts into a private map of mutable
+ * {@code long} cells, and the partial maps are merged pairwise, so no {@code Long} is boxed until the
+ * final result is built.
+ * <p>
+ * An instance is a live counter backed by {@link LongAdder} cells which any number of threads may
+ * {@link #add(String) feed} while others read {@link #get(String) single counts} or a {@link #snapshot()}.
+ */
+public class CountingEngine {
+
+    /** Ranges smaller than this are counted sequentially. */
+    static final int MIN_CHUNK = 4096;
+
+    private final ConcurrentHashMap<String, LongAdder> cells = new ConcurrentHashMap<>();
+
+    // region Live counter
+    public void add(String word) {
+        cell(word).increment();
+    }
+
+    public void add(String word, long times) {
+        cell(word).add(times);
+    }
+
+    /**
+     * Adds a whole batch, pre-aggregating it first so that each distinct word touches its shared cell once.
+     */
+    public void addAll(List<String> words) {
+        countLocally(words).forEach((word, count) -> add(word, count.value));
+    }
+
+    public long get(String word) {
+        LongAdder cell = cells.get(word);
+        return cell == null ? 0 : cell.sum();
+    }
+
+    /**
+     * @return a point-in-time copy of the counts, in the shape {@link UsingStreams#getCounts(List)} returns
+     */
+    public ConcurrentMap<Object, Long> snapshot() {
+        ConcurrentMap<Object, Long> result = new ConcurrentHashMap<>(Math.max(16, cells.size() * 4 / 3 + 1));
+        cells.forEach((word, cell) -> result.put(word, cell.sum()));
+        return result;
+    }
+
+    public void reset() {
+        cells.clear();
+    }
+
+    private LongAdder cell(String word) {
+        // get() first: computeIfAbsent locks the bin even when the key is already present
+        LongAdder cell = cells.get(word);
+        return cell != null ? cell : cells.computeIfAbsent(word, k -> new LongAdder());
+    }
+    // endregion
+
+    // region One-shot counting
+    /**
+     * Counts each distinct word in parallel.
+     *
+     * @param words given list of strings, must not contain {@code null}
+     * @return a map of word to number of occurrences
+     */
+    public static ConcurrentMap<Object, Long> countOf(List<String> words) {
+        Map<String, MutableLong> counts = countLocally(words);
+        ConcurrentMap<Object, Long> result = new ConcurrentHashMap<>(Math.max(16, counts.size() * 4 / 3 + 1));
+        counts.forEach((word, count) -> result.put(word, count.value));
+        return result;
+    }
+
+    private static Map<String, MutableLong> countLocally(List<String> words) {
+        String[] array = words.toArray(new String[0]);
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunk = Math.max(MIN_CHUNK, array.length / (parallelism * 4));
+        if (array.length <= chunk) {
+            return new CountTask(array, 0, array.length, chunk).compute();
+        }
+        return ForkJoinPool.commonPool().invoke(new CountTask(array, 0, array.length, chunk));
+    }
+
+    /** A {@code long} that can be incremented in place inside a map. */
+    static final class MutableLong {
+        long value;
+    }
+
+    private static final class CountTask extends RecursiveTask<Map<String, MutableLong>> {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] words;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        CountTask(String[] words, int from, int to, int chunk) {
+            this.words = words;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected Map<String, MutableLong> compute() {
+            if (to - from <= chunk) {
+                Map<String, MutableLong> counts = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    counts.computeIfAbsent(words[i], k -> new MutableLong()).value++;
+                }
+                return counts;
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(words, from, mid, chunk);
+            left.fork();
+            Map<String, MutableLong> right = new CountTask(words, mid, to, chunk).compute();
+            return merge(left.join(), right);
+        }
+
+        private static Map<String, MutableLong> merge(Map<String, MutableLong> a, Map<String, MutableLong> b) {
+            Map<String, MutableLong> into = a.size() >= b.size() ? a : b;
+            Map<String, MutableLong> from = into == a ? b : a;
+            from.forEach((word, count) -> {
+                MutableLong existing = into.putIfAbsent(word, count);
+                if (existing != null) existing.value += count.value;
+            });
+            return into;
+        }
+    }
+    // endregion
+}
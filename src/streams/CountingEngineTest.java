@@ -0,0 +1,70 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountingEngineTest {
+    // region Fields
+    List<String> states;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        states = List.of("California", "Alabama", "Texas", "California", "Nevada", "Texas", "Louisiana", "Texas");
+    }
+
+    @Test
+    @DisplayName("Return the count of each state ...")
+    void countOf_returnCountOfEachState() {
+        // when
+        ConcurrentMap<Object, Long> counts = CountingEngine.countOf(states);
+        // then
+        assertEquals(3L, counts.get("Texas"));
+        assertEquals(2L, counts.get("California"));
+        assertEquals(5, counts.size());
+    }
+
+    @Test
+    @DisplayName("Counts spanning many fork/join chunks are merged exactly ...")
+    void countOf_largeInputMatchesSequentialCount() {
+        // given
+        List<String> large = new ArrayList<>();
+        for (int i = 0; i < CountingEngine.MIN_CHUNK * 10; i++) large.addAll(states);
+        // when
+        ConcurrentMap<Object, Long> counts = CountingEngine.countOf(new LinkedList<>(large));
+        // then
+        assertEquals(3L * CountingEngine.MIN_CHUNK * 10, counts.get("Texas"));
+        assertEquals(1L * CountingEngine.MIN_CHUNK * 10, counts.get("Nevada"));
+    }
+
+    @Test
+    @DisplayName("Live counter can be fed from several threads ...")
+    void add_concurrentProducersAreAllCounted() throws InterruptedException {
+        // given
+        CountingEngine engine = new CountingEngine();
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        // when
+        for (int t = 0; t < 4; t++) {
+            producers.execute(() -> {
+                for (int i = 0; i < 1000; i++) states.forEach(engine::add);
+            });
+        }
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+        engine.addAll(states);
+        // then
+        assertEquals(3L * 4001, engine.get("Texas"));
+        assertEquals(0L, engine.get("Ohio"));
+        assertEquals(1L * 4001, engine.snapshot().get("Alabama"));
+    }
+}
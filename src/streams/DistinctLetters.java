@@ -0,0 +1,213 @@
+package streams;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * The distinct code points of a word list in first-occurrence order, gathered in primitive arrays.
+ * <p>
+ * A position is the pair {@code (word index, char index)} packed into a {@code long}, so comparing positions
+ * compares occurrences. Each chunk of the list records the first position of every code point it contains:
+ * ASCII in a dense {@code long[128]} guarded by a two-word bitset, everything else in an open-addressing
+ * {@code int -> long} table. Chunks are scanned in parallel and merged by taking the minimum position per
+ * code point; sorting the survivors' positions gives the output order.
+ * <pre>
+ *   DistinctLetters.of(words).concatenate(); // "aplebnorgkiw" for the test fixture
+ * </pre>
+ */
+public final class DistinctLetters {
+
+    static final int MIN_CHUNK = 4096;
+
+    private final int[] codePoints;
+
+    private DistinctLetters(int[] codePoints) {
+        this.codePoints = codePoints;
+    }
+
+    // region Construction
+    public static DistinctLetters of(List<String> words) {
+        String[] array = words.toArray(new String[0]);
+        return new DistinctLetters(scan(array, 0, array.length).ordered());
+    }
+
+    /**
+     * @see UsingStreams#concatenateDistinctLettersInParallel(List)
+     */
+    public static DistinctLetters ofParallel(List<String> words) {
+        String[] array = words.toArray(new String[0]);
+        int chunks = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, array.length / MIN_CHUNK));
+        FirstPositions merged = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> scan(array, (int) ((long) array.length * c / chunks), (int) ((long) array.length * (c + 1) / chunks)))
+                .reduce(FirstPositions::merge)
+                .orElseGet(FirstPositions::new);
+        return new DistinctLetters(merged.ordered());
+    }
+
+    private static FirstPositions scan(String[] words, int from, int to) {
+        FirstPositions positions = new FirstPositions();
+        for (int w = from; w < to; w++) {
+            String word = words[w];
+            for (int i = 0; i < word.length(); ) {
+                char c = word.charAt(i);
+                if (c < 128) {
+                    positions.recordAscii(c, w, i);
+                    i++;
+                } else {
+                    int codePoint = word.codePointAt(i);
+                    positions.other.putIfAbsent(codePoint, position(w, i));
+                    i += Character.charCount(codePoint);
+                }
+            }
+        }
+        return positions;
+    }
+
+    private static long position(int word, int index) {
+        return ((long) word << 32) | index;
+    }
+    // endregion
+
+    /** First positions of the code points seen in one chunk; positions only ever decrease on merge. */
+    private static final class FirstPositions {
+        final long[] seenAscii = new long[2];
+        final long[] ascii = new long[128];
+        final CodePointPositions other = new CodePointPositions();
+
+        void recordAscii(char c, int word, int index) {
+            long bit = 1L << c;
+            if ((seenAscii[c >>> 6] & bit) != 0) return;
+            seenAscii[c >>> 6] |= bit;
+            ascii[c] = position(word, index);
+        }
+
+        FirstPositions merge(FirstPositions later) {
+            for (int c = 0; c < 128; c++) {
+                long bit = 1L << c;
+                if ((later.seenAscii[c >>> 6] & bit) == 0) continue;
+                if ((seenAscii[c >>> 6] & bit) == 0 || later.ascii[c] < ascii[c]) {
+                    seenAscii[c >>> 6] |= bit;
+                    ascii[c] = later.ascii[c];
+                }
+            }
+            for (int slot = 0; slot < later.other.keys.length; slot++) {
+                if (later.other.keys[slot] != CodePointPositions.EMPTY) {
+                    other.putMin(later.other.keys[slot], later.other.positions[slot]);
+                }
+            }
+            return this;
+        }
+
+        /** The code points sorted by first position. */
+        int[] ordered() {
+            int count = Long.bitCount(seenAscii[0]) + Long.bitCount(seenAscii[1]) + other.size;
+            long[] positions = new long[count];
+            int[] unsorted = new int[count];
+            int n = 0;
+            for (int c = 0; c < 128; c++) {
+                if ((seenAscii[c >>> 6] & (1L << c)) != 0) {
+                    positions[n] = ascii[c];
+                    unsorted[n++] = c;
+                }
+            }
+            for (int slot = 0; slot < other.keys.length; slot++) {
+                if (other.keys[slot] != CodePointPositions.EMPTY) {
+                    positions[n] = other.positions[slot];
+                    unsorted[n++] = other.keys[slot];
+                }
+            }
+            // positions are unique, so each code point's rank is where its position lands in sorted order
+            long[] sorted = positions.clone();
+            Arrays.sort(sorted);
+            int[] codePoints = new int[count];
+            for (int i = 0; i < count; i++) codePoints[Arrays.binarySearch(sorted, positions[i])] = unsorted[i];
+            return codePoints;
+        }
+    }
+
+    /** Open-addressing map from non-ASCII code point to first position, with linear probing. */
+    private static final class CodePointPositions {
+        static final int EMPTY = -1;
+
+        int[] keys = newKeys(16);
+        long[] positions = new long[16];
+        int size;
+
+        private static int[] newKeys(int capacity) {
+            int[] keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        void putIfAbsent(int codePoint, long position) {
+            int slot = slot(codePoint);
+            if (keys[slot] == codePoint) return;
+            insert(slot, codePoint, position);
+        }
+
+        void putMin(int codePoint, long position) {
+            int slot = slot(codePoint);
+            if (keys[slot] == codePoint) {
+                positions[slot] = Math.min(positions[slot], position);
+                return;
+            }
+            insert(slot, codePoint, position);
+        }
+
+        /** The slot holding {@code codePoint}, or the empty slot where it belongs. */
+        private int slot(int codePoint) {
+            int mask = keys.length - 1;
+            // Fibonacci hashing: the top log2(capacity) bits of the product
+            int slot = (codePoint * 0x9E3779B9) >>> (Integer.numberOfLeadingZeros(keys.length) + 1);
+            while (keys[slot] != EMPTY && keys[slot] != codePoint) slot = (slot + 1) & mask;
+            return slot;
+        }
+
+        private void insert(int slot, int codePoint, long position) {
+            keys[slot] = codePoint;
+            positions[slot] = position;
+            if (++size * 2 > keys.length) grow();
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            long[] oldPositions = positions;
+            keys = newKeys(oldKeys.length * 2);
+            positions = new long[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = slot(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    positions[slot] = oldPositions[i];
+                }
+            }
+        }
+    }
+
+    // region Results
+    public int count() {
+        return codePoints.length;
+    }
+
+    public int[] codePoints() {
+        return codePoints.clone();
+    }
+
+    /**
+     * @see UsingStreams#concatenateDistinctLetters(List)
+     */
+    public String concatenate() {
+        return new String(codePoints, 0, codePoints.length);
+    }
+
+    /**
+     * @see UsingStreams#findDistinctLettersFromWords(List)
+     */
+    public List<String> asList() {
+        List<String> letters = new ArrayList<>(codePoints.length);
+        for (int codePoint : codePoints) letters.add(Character.toString(codePoint));
+        return letters;
+    }
+    // endregion
+}
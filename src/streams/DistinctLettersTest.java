@@ -0,0 +1,82 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistinctLettersTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    private static String expectedLetters(List<String> words) {
+        return words.stream().flatMapToInt(String::codePoints).distinct()
+                .mapToObj(Character::toString).collect(Collectors.joining());
+    }
+
+    @Test
+    @DisplayName("Concatenate the distinct letters in first-seen order ...")
+    void concatenate_returnsLettersInFirstSeenOrder() {
+        // then
+        assertEquals("aplebnorgkiw", DistinctLetters.of(words).concatenate());
+        assertEquals("aplebnorgkiw", UsingStreams.concatenateDistinctLettersInParallel(words));
+        assertEquals(List.of("a", "p", "l", "e", "b", "n", "o", "r", "g", "k", "i", "w"),
+                UsingStreams.findDistinctLettersFromWordsInParallel(words));
+        assertEquals("", DistinctLetters.ofParallel(List.of()).concatenate());
+    }
+
+    @Test
+    @DisplayName("Non-ASCII and supplementary code points keep their order ...")
+    void concatenate_handlesFullUnicode() {
+        // given
+        List<String> mixed = List.of("", "crème", "brûlée", "😀a", "naïve", "😀", "𝄞x");
+        // when
+        DistinctLetters letters = DistinctLetters.of(mixed);
+        // then
+        assertEquals(expectedLetters(mixed), letters.concatenate());
+        assertEquals(List.of("c", "r", "è", "m", "e", "b", "û", "l", "é", "😀", "a", "n", "ï", "v", "𝄞", "x"), letters.asList());
+        assertEquals(16, letters.count());
+    }
+
+    @Test
+    @DisplayName("Chunks merged by minimum position agree with a sequential scan ...")
+    void ofParallel_matchesSequentialOrder() {
+        // given: rare letters appear first in late chunks
+        List<String> many = new ArrayList<>(UsingStreamsBenchmark.generate(50_000, UsingStreamsBenchmark.LengthDistribution.UNIFORM, 0.5, 8));
+        many.add(30_000, "zzQ");
+        many.add(45_000, "ünï😀");
+        many.add(12_000, "Q");
+        // then
+        assertEquals(expectedLetters(many), DistinctLetters.ofParallel(many).concatenate());
+        assertEquals(DistinctLetters.of(many).asList(), DistinctLetters.ofParallel(many).asList());
+    }
+
+    @Test
+    @DisplayName("Many distinct non-ASCII code points keep their order ...")
+    void ofParallel_manyNonAsciiCodePoints() {
+        // given: a CJK-like corpus whose code points first appear in shuffled order
+        List<Integer> codePoints = new ArrayList<>();
+        for (int cp = 0x4E00; cp < 0x4E00 + 20_000; cp++) codePoints.add(cp);
+        codePoints.add(0x1F600);
+        Collections.shuffle(codePoints, new Random(4));
+        List<String> cjk = new ArrayList<>();
+        for (int i = 0; i + 3 <= codePoints.size(); i += 3) {
+            cjk.add(new String(new int[]{codePoints.get(i), codePoints.get(i + 1), codePoints.get(i + 2), codePoints.get(i)}, 0, 4));
+        }
+        for (int copy = 0; copy < 2; copy++) cjk.addAll(cjk.subList(0, 6_667));
+        // then
+        assertEquals(expectedLetters(cjk), DistinctLetters.of(cjk).concatenate());
+        assertEquals(expectedLetters(cjk), DistinctLetters.ofParallel(cjk).concatenate());
+    }
+}
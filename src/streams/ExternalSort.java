@@ -0,0 +1,313 @@
+package streams;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Disk-spilling counterparts of {@link UsingStreams#getWordsSortedInNaturalOrder(List)} and
+ * {@link UsingStreams#getWordsWithoutDuplicates(List)} for inputs that do not fit in memory.
+ * <p>
+ * Words are buffered until their estimated footprint reaches the memory budget, sorted, and spilled to a
+ * temporary run file as length-prefixed UTF-8 followed by the word's input position. The runs are then k-way
+ * merged through a priority queue, at most {@link #MAX_FAN_IN} at a time, and streamed out. Input that fits
+ * in the budget never touches the disk.
+ * <p>
+ * Removing duplicates keeps first occurrences in input order, which takes two passes: a sort by word that
+ * keeps only the lowest position of each word, then a sort of those survivors back into position order.
+ * <p>
+ * The returned streams own their temporary files and delete them on {@link Stream#close()}, so use them in
+ * try-with-resources:
+ * <pre>
+ *   try (Stream&lt;String&gt; sorted = new ExternalSort(64L &lt;&lt; 20).sorted(Files.lines(input))) {
+ *       sorted.forEach(out::println);
+ *   }
+ * </pre>
+ */
+public class ExternalSort {
+
+    public static final int MAX_FAN_IN = 64;
+
+    /** Rough heap cost of a buffered word beyond its characters: String, array and record headers plus a list slot. */
+    private static final int ENTRY_OVERHEAD = 80;
+
+    /** A word and its position in the input; the position makes the sort stable and drives deduplication. */
+    private record Entry(String word, long position) {
+    }
+
+    private static final Comparator<Entry> BY_WORD =
+            Comparator.comparing(Entry::word).thenComparingLong(Entry::position);
+    private static final Comparator<Entry> BY_POSITION = Comparator.comparingLong(Entry::position);
+
+    private final long memoryBudget;
+    private final Path tempDirectory;
+
+    /**
+     * @param memoryBudget bytes of heap to fill with words before sorting and spilling a run
+     */
+    public ExternalSort(long memoryBudget) {
+        this(memoryBudget, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    public ExternalSort(long memoryBudget, Path tempDirectory) {
+        if (memoryBudget <= 0) throw new IllegalArgumentException("memoryBudget must be positive: " + memoryBudget);
+        this.memoryBudget = memoryBudget;
+        this.tempDirectory = tempDirectory;
+    }
+
+    // region Public entry points
+    /**
+     * @return the words in natural order, equal words in input order
+     * @see UsingStreams#getWordsSortedInNaturalOrder(List)
+     */
+    public Stream<String> sorted(Stream<String> words) {
+        Session session = new Session();
+        try {
+            Iterator<Entry> merged = session.sort(positioned(words.iterator()), BY_WORD);
+            return session.stream(merged).onClose(words::close);
+        } catch (RuntimeException | Error e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the first occurrence of every word, in input order
+     * @see UsingStreams#getWordsWithoutDuplicates(List)
+     */
+    public Stream<String> withoutDuplicates(Stream<String> words) {
+        Session session = new Session();
+        try {
+            Iterator<Entry> firsts = firstOfEachWord(session.sort(positioned(words.iterator()), BY_WORD));
+            Iterator<Entry> merged = session.sort(firsts, BY_POSITION);
+            return session.stream(merged).onClose(words::close);
+        } catch (RuntimeException | Error e) {
+            session.close();
+            throw e;
+        }
+    }
+    // endregion
+
+    private static Iterator<Entry> positioned(Iterator<String> words) {
+        return new Iterator<>() {
+            long position;
+
+            @Override
+            public boolean hasNext() {
+                return words.hasNext();
+            }
+
+            @Override
+            public Entry next() {
+                return new Entry(words.next(), position++);
+            }
+        };
+    }
+
+    /** Drops all but the first entry of each run of equal words; over {@link #BY_WORD} order that is the lowest position. */
+    private static Iterator<Entry> firstOfEachWord(Iterator<Entry> byWord) {
+        return new Iterator<>() {
+            Entry next = byWord.hasNext() ? byWord.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Entry next() {
+                if (next == null) throw new NoSuchElementException();
+                Entry current = next;
+                next = null;
+                while (byWord.hasNext()) {
+                    Entry candidate = byWord.next();
+                    if (!candidate.word().equals(current.word())) {
+                        next = candidate;
+                        break;
+                    }
+                }
+                return current;
+            }
+        };
+    }
+
+    /** The temporary files and open readers of one result stream. */
+    private final class Session implements Closeable {
+        private final List<Path> files = new ArrayList<>();
+        private final List<Closeable> readers = new ArrayList<>();
+
+        /**
+         * Spills {@code input} to sorted runs and returns their merge, or sorts it in memory when it fits the budget.
+         */
+        Iterator<Entry> sort(Iterator<Entry> input, Comparator<Entry> order) {
+            List<Run> runs = new ArrayList<>();
+            List<Entry> buffer = new ArrayList<>();
+            long buffered = 0;
+            while (input.hasNext()) {
+                Entry entry = input.next();
+                buffer.add(entry);
+                buffered += ENTRY_OVERHEAD + 2L * entry.word().length();
+                if (buffered >= memoryBudget) {
+                    buffer.sort(order);
+                    runs.add(spill(buffer.iterator(), buffer.size()));
+                    buffer.clear();
+                    buffered = 0;
+                }
+            }
+            buffer.sort(order);
+            if (runs.isEmpty()) return buffer.iterator();
+            if (!buffer.isEmpty()) runs.add(spill(buffer.iterator(), buffer.size()));
+            buffer = null;
+
+            while (runs.size() > MAX_FAN_IN) {
+                List<Run> next = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                    List<Run> group = runs.subList(from, Math.min(runs.size(), from + MAX_FAN_IN));
+                    long count = group.stream().mapToLong(Run::count).sum();
+                    next.add(spill(merge(group, order), count));
+                    group.forEach(this::delete);
+                }
+                runs = next;
+            }
+            return merge(runs, order);
+        }
+
+        Stream<String> stream(Iterator<Entry> entries) {
+            Spliterator<String> words = Spliterators.spliteratorUnknownSize(new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return entries.next().word();
+                }
+            }, Spliterator.ORDERED | Spliterator.NONNULL);
+            return StreamSupport.stream(words, false).onClose(this::close);
+        }
+
+        private Run spill(Iterator<Entry> entries, long count) {
+            try {
+                Path file = Files.createTempFile(tempDirectory, "words-", ".run");
+                files.add(file);
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+                    while (entries.hasNext()) {
+                        Entry entry = entries.next();
+                        byte[] bytes = entry.word().getBytes(StandardCharsets.UTF_8);
+                        out.writeInt(bytes.length);
+                        out.write(bytes);
+                        out.writeLong(entry.position());
+                    }
+                }
+                return new Run(file, count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private Iterator<Entry> merge(List<Run> runs, Comparator<Entry> order) {
+            PriorityQueue<RunReader> heads = new PriorityQueue<>(runs.size(), (a, b) -> order.compare(a.head, b.head));
+            for (Run run : runs) {
+                RunReader reader = new RunReader(run);
+                readers.add(reader);
+                if (reader.advance()) heads.add(reader);
+            }
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return !heads.isEmpty();
+                }
+
+                @Override
+                public Entry next() {
+                    RunReader reader = heads.poll();
+                    if (reader == null) throw new NoSuchElementException();
+                    Entry entry = reader.head;
+                    if (reader.advance()) heads.add(reader);
+                    return entry;
+                }
+            };
+        }
+
+        private void delete(Run run) {
+            try {
+                Files.deleteIfExists(run.file());
+                files.remove(run.file());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            List<Throwable> failures = new ArrayList<>();
+            Consumer<Closeable> closeQuietly = c -> {
+                try {
+                    c.close();
+                } catch (IOException | UncheckedIOException e) {
+                    failures.add(e);
+                }
+            };
+            readers.forEach(closeQuietly);
+            readers.clear();
+            files.forEach(file -> closeQuietly.accept(() -> Files.deleteIfExists(file)));
+            files.clear();
+            if (!failures.isEmpty()) {
+                UncheckedIOException e = new UncheckedIOException("Failed to clean up sort runs", new IOException(failures.get(0)));
+                failures.stream().skip(1).forEach(e::addSuppressed);
+                throw e;
+            }
+        }
+    }
+
+    private record Run(Path file, long count) {
+    }
+
+    /** Reads a run's entries one at a time; closes itself once exhausted. */
+    private static final class RunReader implements Closeable {
+        private final DataInputStream in;
+        private long remaining;
+        Entry head;
+
+        RunReader(Run run) {
+            try {
+                this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.file()), 1 << 16));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.remaining = run.count();
+        }
+
+        boolean advance() {
+            if (remaining == 0) {
+                head = null;
+                close();
+                return false;
+            }
+            try {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                head = new Entry(new String(bytes, StandardCharsets.UTF_8), in.readLong());
+                remaining--;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
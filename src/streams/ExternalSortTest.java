@@ -0,0 +1,95 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalSortTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    private static long filesIn(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Sort and deduplicate in memory when the words fit ...")
+    void fitsInBudget_matchesInMemoryResults(@TempDir Path dir) throws IOException {
+        // given
+        ExternalSort sort = new ExternalSort(1 << 20, dir);
+        // when
+        List<String> sorted;
+        List<String> distinct;
+        try (Stream<String> s = sort.sorted(words.stream()); Stream<String> d = sort.withoutDuplicates(words.stream())) {
+            sorted = s.toList();
+            distinct = d.toList();
+            assertEquals(0, filesIn(dir));
+        }
+        // then
+        assertEquals(List.of("apple", "apple", "banana", "grape", "kiwi", "orange", "pear"), sorted);
+        assertEquals(List.of("apple", "banana", "orange", "grape", "pear", "kiwi"), distinct);
+    }
+
+    @Test
+    @DisplayName("Spilled runs merge to the sorted words and are deleted on close ...")
+    void sorted_spillsAndMerges(@TempDir Path dir) throws IOException {
+        // given
+        List<String> many = UsingStreamsBenchmark.generate(50_000, UsingStreamsBenchmark.LengthDistribution.UNIFORM, 0.5, 5);
+        List<String> expected = new ArrayList<>(many);
+        Collections.sort(expected);
+        // when: a budget of a few hundred words gives more runs than one merge can take
+        List<String> actual;
+        try (Stream<String> sorted = new ExternalSort(20_000, dir).sorted(many.stream())) {
+            actual = sorted.toList();
+            assertTrue(filesIn(dir) > 0);
+        }
+        // then
+        assertEquals(expected, actual);
+        assertEquals(0, filesIn(dir));
+    }
+
+    @Test
+    @DisplayName("Spilled deduplication keeps first occurrences in input order ...")
+    void withoutDuplicates_keepsFirstOccurrenceOrder(@TempDir Path dir) throws IOException {
+        // given
+        List<String> many = UsingStreamsBenchmark.generate(30_000, UsingStreamsBenchmark.LengthDistribution.SKEWED, 0.9, 7);
+        // when
+        List<String> actual;
+        try (Stream<String> distinct = UsingStreams.getWordsWithoutDuplicates(many.stream(), 10_000)) {
+            actual = distinct.toList();
+        }
+        // then
+        assertEquals(new ArrayList<>(new LinkedHashSet<>(many)), actual);
+    }
+
+    @Test
+    @DisplayName("Closing an unconsumed stream still deletes its runs ...")
+    void close_beforeConsumingDeletesRuns(@TempDir Path dir) throws IOException {
+        // given
+        List<String> many = UsingStreamsBenchmark.generate(5_000, UsingStreamsBenchmark.LengthDistribution.UNIFORM, 0.0, 9);
+        // when
+        try (Stream<String> sorted = new ExternalSort(10_000, dir).sorted(many.stream())) {
+            assertEquals(many.stream().min(Comparator.naturalOrder()), sorted.findFirst());
+        }
+        // then
+        assertEquals(0, filesIn(dir));
+    }
+}
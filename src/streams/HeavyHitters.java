@@ -0,0 +1,98 @@
+package streams;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+/**
+ * Approximate top-K word counting in bounded memory, for inputs whose exact {@link UsingStreams#getCounts(List)}
+ * map would not fit.
+ * <p>
+ * A {@link SpaceSaving} summary nominates the candidate heavy hitters and a {@link CountMinSketch} estimates
+ * the frequency of any word; a candidate's reported count is the smaller of the two estimates, both of which
+ * only ever overcount. Instances are mergeable, which is how {@link #collector(int, double, double)} fills
+ * them in parallel.
+ * <pre>
+ *   HeavyHitters hitters = words.parallelStream().collect(HeavyHitters.collector(10, 0.0001, 0.01));
+ *   List&lt;Map.Entry&lt;String, Long&gt;&gt; top = hitters.topK();
+ * </pre>
+ */
+public class HeavyHitters {
+
+    private final int k;
+    private final SpaceSaving candidates;
+    private final CountMinSketch sketch;
+
+    /**
+     * @param k       number of most frequent words to report
+     * @param epsilon sketch overcount bound, as a fraction of the number of words added
+     * @param delta   probability of exceeding that bound
+     */
+    public HeavyHitters(int k, double epsilon, double delta) {
+        this(k, CountMinSketch.withErrorBounds(epsilon, delta));
+    }
+
+    private HeavyHitters(int k, CountMinSketch sketch) {
+        this.k = k;
+        // extra candidates keep words near rank k from being evicted by the long tail
+        this.candidates = new SpaceSaving(4 * k);
+        this.sketch = sketch;
+    }
+
+    /**
+     * Sizes the sketch from a memory budget instead of error bounds.
+     */
+    public static HeavyHitters withMemoryBudget(int k, long sketchBytes) {
+        return new HeavyHitters(k, CountMinSketch.withMemoryBudget(sketchBytes, 4));
+    }
+
+    public static HeavyHitters of(List<String> words, int k, double epsilon, double delta) {
+        return words.parallelStream().collect(collector(k, epsilon, delta));
+    }
+
+    public static Collector<String, HeavyHitters, HeavyHitters> collector(int k, double epsilon, double delta) {
+        return Collector.of(() -> new HeavyHitters(k, epsilon, delta), HeavyHitters::add, HeavyHitters::merge,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public void add(String word) {
+        candidates.add(word);
+        sketch.add(word);
+    }
+
+    public HeavyHitters merge(HeavyHitters other) {
+        candidates.merge(other.candidates);
+        sketch.merge(other.sketch);
+        return this;
+    }
+
+    /**
+     * @return an overestimate of how often {@code word} was added
+     */
+    public long estimate(String word) {
+        long tracked = candidates.count(word);
+        long sketched = sketch.estimate(word);
+        return tracked == 0 ? sketched : Math.min(tracked, sketched);
+    }
+
+    /**
+     * @return the {@code k} words with the highest estimated counts, most frequent first
+     */
+    public List<Map.Entry<String, Long>> topK() {
+        return candidates.tracked().stream()
+                .map(word -> Map.entry(word, estimate(word)))
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(k)
+                .toList();
+    }
+
+    public long total() {
+        return sketch.total();
+    }
+
+    /**
+     * @return the guaranteed-with-probability overcount bound of {@link #estimate(String)}, in words
+     */
+    public long errorBound() {
+        return (long) Math.ceil(sketch.epsilon() * sketch.total());
+    }
+}
@@ -0,0 +1,119 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHittersTest {
+    // region Fields
+    List<String> states;
+    List<String> skewed;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        states = List.of("California", "Alabama", "Texas", "California", "Nevada", "Texas", "Louisiana", "Texas");
+        skewed = new ArrayList<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            // a handful of frequent words in a long tail of rare ones
+            skewed.add(random.nextInt(10) < 3 ? "hot" + random.nextInt(5) : "cold" + random.nextInt(50_000));
+        }
+    }
+
+    @Test
+    @DisplayName("Small inputs are counted exactly ...")
+    void topK_exactForFewDistinctWords() {
+        // when
+        HeavyHitters hitters = HeavyHitters.of(states, 2, 0.01, 0.01);
+        // then
+        assertEquals(List.of(Map.entry("Texas", 3L), Map.entry("California", 2L)), hitters.topK());
+        assertEquals(8, hitters.total());
+    }
+
+    @Test
+    @DisplayName("Top-K of a skewed stream matches the exact counts within the error bound ...")
+    void topK_matchesExactCountsOnSkewedInput() {
+        // given
+        Map<Object, Long> exact = CountingEngine.countOf(skewed);
+        // when
+        HeavyHitters hitters = HeavyHitters.of(skewed, 5, 0.0005, 0.01);
+        List<Map.Entry<String, Long>> top = hitters.topK();
+        // then
+        assertEquals(Set.of("hot0", "hot1", "hot2", "hot3", "hot4"), new HashSet<>(top.stream().map(Map.Entry::getKey).toList()));
+        for (Map.Entry<String, Long> entry : top) {
+            long truth = exact.get(entry.getKey());
+            assertTrue(entry.getValue() >= truth);
+            assertTrue(entry.getValue() - truth <= hitters.errorBound());
+        }
+    }
+
+    @Test
+    @DisplayName("Sketches and summaries merge ...")
+    void merge_combinesHalves() {
+        // given
+        CountMinSketch left = CountMinSketch.withErrorBounds(0.01, 0.01);
+        CountMinSketch right = CountMinSketch.withErrorBounds(0.01, 0.01);
+        SpaceSaving a = new SpaceSaving(3);
+        SpaceSaving b = new SpaceSaving(3);
+        // when
+        states.subList(0, 4).forEach(s -> { left.add(s); a.add(s); });
+        states.subList(4, 8).forEach(s -> { right.add(s); b.add(s); });
+        left.merge(right);
+        a.merge(b);
+        // then
+        assertTrue(left.estimate("Texas") >= 3);
+        assertEquals(8, left.total());
+        assertEquals(3L, a.count("Texas"));
+        assertEquals(0L, a.error("Texas"));
+        // California was tracked only by the first half; the full second half may have evicted some of it
+        assertEquals(3L, a.count("California"));
+        assertEquals(1L, a.error("California"));
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new CountMinSketch(1, 1)));
+    }
+
+    @Test
+    @DisplayName("Space-Saving never undercounts a tracked word ...")
+    void spaceSaving_boundsCounts() {
+        // given
+        SpaceSaving summary = new SpaceSaving(10);
+        Map<Object, Long> exact = CountingEngine.countOf(skewed);
+        // when
+        skewed.forEach(summary::add);
+        // then
+        for (String word : summary.tracked()) {
+            long truth = exact.get(word);
+            assertTrue(summary.count(word) >= truth);
+            assertTrue(summary.count(word) - summary.error(word) <= truth);
+        }
+        assertEquals(10, summary.tracked().size());
+    }
+
+    @Test
+    @DisplayName("Merged Space-Saving summaries still bound the true counts ...")
+    void spaceSaving_mergeBoundsCounts() {
+        // given
+        Map<Object, Long> exact = CountingEngine.countOf(skewed);
+        List<SpaceSaving> parts = new ArrayList<>();
+        for (int from = 0; from < skewed.size(); from += 10_000) {
+            SpaceSaving part = new SpaceSaving(20);
+            skewed.subList(from, from + 10_000).forEach(part::add);
+            parts.add(part);
+        }
+        // when
+        SpaceSaving merged = parts.stream().reduce(SpaceSaving::merge).orElseThrow();
+        // then
+        for (String word : merged.tracked()) {
+            long truth = exact.get(word);
+            assertTrue(merged.count(word) >= truth, word);
+            assertTrue(merged.count(word) - merged.error(word) <= truth, word);
+        }
+        assertEquals(skewed.size(), merged.total());
+        for (int i = 0; i < 5; i++) assertTrue(merged.tracked().contains("hot" + i));
+    }
+}
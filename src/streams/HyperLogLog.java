@@ -0,0 +1,137 @@
+package streams;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+/**
+ * Estimates the number of distinct words without storing them.
+ * <p>
+ * The sketch keeps {@code 2^precision} one-byte registers, each holding the longest run of leading zeros
+ * seen among the hashes routed to it. The relative standard error is about {@code 1.04 / sqrt(2^precision)}:
+ * roughly 1.6% at the default precision 12 (4 KB), 0.4% at 16 (64 KB). Small cardinalities use linear
+ * counting over the empty registers instead.
+ * <p>
+ * Sketches of the same precision {@link #merge(HyperLogLog) merge} by taking the maximum of each register,
+ * which is order-insensitive and lets batches be sketched separately, {@link #toBytes() serialized}, and
+ * combined later. Not thread-safe; use {@link #collector(int)} for parallel streams.
+ */
+public class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+    public static final int DEFAULT_PRECISION = 12;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be in [" + MIN_PRECISION + ", " + MAX_PRECISION + "]: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * @see UsingStreams#estimateDistinctWords(List, int)
+     */
+    public static long estimateDistinct(List<String> words, int precision) {
+        return words.parallelStream().collect(collector(precision)).estimate();
+    }
+
+    public static Collector<String, HyperLogLog, HyperLogLog> collector(int precision) {
+        return Collector.of(() -> new HyperLogLog(precision), HyperLogLog::add, HyperLogLog::merge,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public void add(String word) {
+        addHash(WordHash.hash64(word));
+    }
+
+    /**
+     * Adds a value by its well-mixed 64-bit hash, for sketching values other than words.
+     */
+    public void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // the sentinel bit caps the rank when all remaining bits are zero
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) registers[index] = rank;
+    }
+
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge precision " + other.precision + " into " + precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) registers[i] = other.registers[i];
+        }
+        return this;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) zeros++;
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * @return a 1.04 / sqrt(m) estimate of the relative standard error
+     */
+    public double standardError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    // region Serialization
+    /**
+     * @return a version byte, the precision, then one byte per register
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[2 + registers.length];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = (byte) precision;
+        System.arraycopy(registers, 0, bytes, 2, registers.length);
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Not a serialized HyperLogLog of version " + FORMAT_VERSION);
+        }
+        HyperLogLog sketch = new HyperLogLog(bytes[1]);
+        if (bytes.length != 2 + sketch.registers.length) {
+            throw new IllegalArgumentException("Expected " + (2 + sketch.registers.length) + " bytes but got " + bytes.length);
+        }
+        System.arraycopy(bytes, 2, sketch.registers, 0, sketch.registers.length);
+        return sketch;
+    }
+    // endregion
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+    // region Fields
+    List<String> words;
+    List<String> large;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+        large = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) large.add("word" + (i % 100_000));
+    }
+
+    @Test
+    @DisplayName("Estimate the number of distinct words ...")
+    void estimateDistinctWords_smallInputIsExact() {
+        assertEquals(6, UsingStreams.estimateDistinctWords(words));
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    @DisplayName("Large estimates stay within a few standard errors ...")
+    void estimate_withinErrorBound() {
+        for (int precision : new int[]{10, 14}) {
+            // when
+            long estimate = UsingStreams.estimateDistinctWords(large, precision);
+            // then
+            double error = Math.abs(estimate - 100_000) / 100_000.0;
+            assertTrue(error < 4 * new HyperLogLog(precision).standardError(), "precision " + precision + ": " + estimate);
+        }
+    }
+
+    @Test
+    @DisplayName("Sketches of separate batches merge after serialization ...")
+    void merge_serializedBatches() {
+        // given
+        HyperLogLog first = new HyperLogLog(14);
+        HyperLogLog second = new HyperLogLog(14);
+        large.subList(0, 120_000).forEach(first::add);
+        large.subList(120_000, large.size()).forEach(second::add);
+        HyperLogLog whole = large.stream().collect(HyperLogLog.collector(14));
+        // when
+        HyperLogLog merged = HyperLogLog.fromBytes(first.toBytes()).merge(HyperLogLog.fromBytes(second.toBytes()));
+        // then
+        assertEquals(whole.estimate(), merged.estimate());
+        assertArrayEquals(whole.toBytes(), merged.toBytes());
+        assertThrows(IllegalArgumentException.class, () -> merged.merge(new HyperLogLog(12)));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{1, 4}));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+    }
+}
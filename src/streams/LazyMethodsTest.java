@@ -0,0 +1,85 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyMethodsTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    private static List<String> drain(Iterator<String> iterator) {
+        List<String> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    @Test
+    @DisplayName("Lazy streams return the same words as the eager methods ...")
+    void streams_matchEagerResults() {
+        assertEquals(List.of("apple", "apple"), UsingStreams.streamWordsThatStartWithA(words).toList());
+        assertEquals(List.of("apple", "grape", "apple"), UsingStreams.streamWordsWithLengthOf(words, 5).toList());
+        assertEquals(List.of("kiwi"), UsingStreams.streamWordsContaining(words, "k").toList());
+        assertEquals(List.of("apple", "banana", "grape", "pear", "kiwi", "apple"), UsingStreams.streamWordsNotContaining(words, "o").toList());
+        assertEquals(List.of("orange", "grape", "pear", "kiwi", "apple"), UsingStreams.streamWordsSkippingFirstFew(words, 2).toList());
+    }
+
+    @Test
+    @DisplayName("Lazy iterators return the same words as the eager methods ...")
+    void iterators_matchEagerResults() {
+        assertEquals(List.of("apple", "apple"), drain(UsingStreams.iterateWordsThatStartWithA(words)));
+        assertEquals(List.of("apple", "grape", "apple"), drain(UsingStreams.iterateWordsWithLengthOf(words, 5)));
+        assertEquals(List.of("apple", "grape", "pear", "apple"), drain(UsingStreams.iterateWordsContaining(words, "p")));
+        assertEquals(List.of("apple", "banana", "orange", "grape", "pear", "apple"), drain(UsingStreams.iterateWordsNotContaining(words, "k")));
+        assertEquals(List.of(), drain(UsingStreams.iterateWordsSkippingFirstFew(words, 10)));
+        assertThrows(NoSuchElementException.class, () -> UsingStreams.iterateWordsContaining(words, "z").next());
+    }
+
+    @Test
+    @DisplayName("Skipping a negative count is rejected by both variants ...")
+    void skippingFirstFew_rejectsNegativeCount() {
+        assertThrows(IllegalArgumentException.class, () -> UsingStreams.streamWordsSkippingFirstFew(words, -1));
+        assertThrows(IllegalArgumentException.class, () -> UsingStreams.iterateWordsSkippingFirstFew(words, -1));
+    }
+
+    @Test
+    @DisplayName("Short-circuiting consumers stop the scan early ...")
+    void shortCircuit_visitsOnlyNeededWords() {
+        // given
+        AtomicInteger visited = new AtomicInteger();
+        List<String> counting = new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                visited.incrementAndGet();
+                return words.get(index);
+            }
+
+            @Override
+            public int size() {
+                return words.size();
+            }
+        };
+        // when
+        Optional<String> first = UsingStreams.streamWordsWithLengthOf(counting, 6).findFirst();
+        // then
+        assertEquals("banana", first.orElseThrow());
+        assertEquals(2, visited.get());
+        // when
+        visited.set(0);
+        UsingStreams.iterateWordsContaining(counting, "p").next();
+        // then
+        assertEquals(1, visited.get());
+    }
+}
@@ -0,0 +1,197 @@
+package streams;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Words grouped by length in one contiguous array, as a counting sort would leave them.
+ * <p>
+ * A first pass builds a histogram of lengths, whose prefix sums give every length's bucket offset; a second
+ * pass drops each word into the next free slot of its bucket, so words keep their list order within a bucket.
+ * No key is boxed and no list grows. {@link #ofParallel(List)} gives every chunk of the list its own
+ * histogram; the chunks' slots within each bucket are laid out in chunk order, so the result is identical.
+ * <pre>
+ *   LengthBuckets buckets = LengthBuckets.of(words);
+ *   List&lt;String&gt; fives = buckets.bucket(5);
+ *   Map&lt;Integer, List&lt;String&gt;&gt; groups = buckets.asMap(); // groupWordsByLength
+ * </pre>
+ */
+public final class LengthBuckets {
+
+    static final int MIN_CHUNK = 4096;
+
+    private final String[] words;
+    /** Bucket {@code length} is {@code words[offsets[length] .. offsets[length + 1])}. */
+    private final int[] offsets;
+    private final List<String> view;
+    private final int nonEmpty;
+
+    private LengthBuckets(String[] words, int[] offsets) {
+        this.words = words;
+        this.offsets = offsets;
+        this.view = Collections.unmodifiableList(Arrays.asList(words));
+        int buckets = 0;
+        for (int length = 0; length < offsets.length - 1; length++) {
+            if (offsets[length + 1] > offsets[length]) buckets++;
+        }
+        this.nonEmpty = buckets;
+    }
+
+    // region Construction
+    /**
+     * @see UsingStreams#groupWordsByLength(List)
+     */
+    public static LengthBuckets of(List<String> words) {
+        String[] source = words.toArray(new String[0]);
+        int[] histogram = histogram(source, 0, source.length, new int[16]);
+        int[] offsets = offsets(histogram);
+        int[] next = Arrays.copyOf(offsets, histogram.length);
+        String[] grouped = new String[source.length];
+        for (String word : source) {
+            grouped[next[word.length()]++] = word;
+        }
+        return new LengthBuckets(grouped, offsets);
+    }
+
+    /**
+     * @see UsingStreams#groupWordsByLengthInParallel(List)
+     */
+    public static LengthBuckets ofParallel(List<String> words) {
+        String[] source = words.toArray(new String[0]);
+        int chunks = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, source.length / MIN_CHUNK));
+        if (chunks == 1) return of(words);
+
+        int[][] histograms = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> histogram(source, from(c, chunks, source.length), from(c + 1, chunks, source.length), new int[16]))
+                .toArray(int[][]::new);
+        int maxLength = 0;
+        for (int[] histogram : histograms) maxLength = Math.max(maxLength, histogram.length - 1);
+        int[] total = new int[maxLength + 1];
+        for (int[] histogram : histograms) {
+            for (int length = 0; length < histogram.length; length++) total[length] += histogram[length];
+        }
+        int[] offsets = offsets(total);
+
+        // each chunk starts writing a bucket where the previous chunks' words of that length end
+        int[][] starts = new int[chunks][];
+        int[] running = Arrays.copyOf(offsets, total.length);
+        for (int c = 0; c < chunks; c++) {
+            starts[c] = Arrays.copyOf(running, total.length);
+            for (int length = 0; length < histograms[c].length; length++) running[length] += histograms[c][length];
+        }
+        String[] grouped = new String[source.length];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[] next = starts[c];
+            for (int i = from(c, chunks, source.length), end = from(c + 1, chunks, source.length); i < end; i++) {
+                grouped[next[source[i].length()]++] = source[i];
+            }
+        });
+        return new LengthBuckets(grouped, offsets);
+    }
+
+    private static int from(int chunk, int chunks, int size) {
+        return (int) ((long) size * chunk / chunks);
+    }
+
+    /** Counts the lengths of {@code words[from..to)}, trimming the histogram to the longest word. */
+    private static int[] histogram(String[] words, int from, int to, int[] histogram) {
+        int maxLength = -1;
+        for (int i = from; i < to; i++) {
+            int length = words[i].length();
+            if (length >= histogram.length) {
+                histogram = Arrays.copyOf(histogram, Math.max(length + 1, histogram.length * 2));
+            }
+            histogram[length]++;
+            maxLength = Math.max(maxLength, length);
+        }
+        return Arrays.copyOf(histogram, maxLength + 1);
+    }
+
+    private static int[] offsets(int[] histogram) {
+        int[] offsets = new int[histogram.length + 1];
+        for (int length = 0; length < histogram.length; length++) {
+            offsets[length + 1] = offsets[length] + histogram[length];
+        }
+        return offsets;
+    }
+    // endregion
+
+    // region Queries
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * @return the longest word length, or -1 if there are no words
+     */
+    public int maxLength() {
+        return offsets.length - 2;
+    }
+
+    public int count(int length) {
+        return length < 0 || length > maxLength() ? 0 : offsets[length + 1] - offsets[length];
+    }
+
+    /**
+     * @return the words of {@code length} in list order, as an unmodifiable view
+     */
+    public List<String> bucket(int length) {
+        return count(length) == 0 ? List.of() : view.subList(offsets[length], offsets[length + 1]);
+    }
+
+    public String word(int length, int index) {
+        Objects.checkIndex(index, count(length));
+        return words[offsets[length] + index];
+    }
+
+    /**
+     * @return the lengths that have at least one word, ascending
+     */
+    public int[] lengths() {
+        int[] lengths = new int[nonEmpty];
+        int i = 0;
+        for (int length = 0; length <= maxLength(); length++) {
+            if (count(length) > 0) lengths[i++] = length;
+        }
+        return lengths;
+    }
+
+    /**
+     * @return an unmodifiable {@code groupWordsByLength}-shaped view with lengths in ascending order
+     */
+    public Map<Integer, List<String>> asMap() {
+        return new AbstractMap<>() {
+            @Override
+            public List<String> get(Object key) {
+                return key instanceof Integer length && count(length) > 0 ? bucket(length) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return key instanceof Integer length && count(length) > 0;
+            }
+
+            @Override
+            public int size() {
+                return nonEmpty;
+            }
+
+            @Override
+            public Set<Entry<Integer, List<String>>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public int size() {
+                        return nonEmpty;
+                    }
+
+                    @Override
+                    public Iterator<Entry<Integer, List<String>>> iterator() {
+                        return Arrays.stream(lengths()).mapToObj(length -> Map.entry(length, bucket(length))).iterator();
+                    }
+                };
+            }
+        };
+    }
+    // endregion
+}
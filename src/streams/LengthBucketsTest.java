@@ -0,0 +1,70 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LengthBucketsTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    @Test
+    @DisplayName("Group words by length into contiguous buckets ...")
+    void of_groupsWordsByLength() {
+        // when
+        LengthBuckets buckets = LengthBuckets.of(words);
+        // then
+        assertEquals(List.of("apple", "grape", "apple"), buckets.bucket(5));
+        assertEquals(List.of("banana", "orange"), buckets.bucket(6));
+        assertEquals(List.of("pear", "kiwi"), buckets.bucket(4));
+        assertEquals(List.of(), buckets.bucket(3));
+        assertEquals(List.of(), buckets.bucket(42));
+        assertArrayEquals(new int[]{4, 5, 6}, buckets.lengths());
+        assertEquals(6, buckets.maxLength());
+        assertEquals("kiwi", buckets.word(4, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> buckets.word(4, 2));
+        assertThrows(UnsupportedOperationException.class, () -> buckets.bucket(5).set(0, "x"));
+    }
+
+    @Test
+    @DisplayName("The map view equals groupingBy over the words ...")
+    void asMap_equalsGroupingBy() {
+        // given
+        Map<Integer, List<String>> expected = words.stream().collect(Collectors.groupingBy(String::length));
+        // when
+        Map<Integer, List<String>> actual = LengthBuckets.of(words).asMap();
+        // then
+        assertEquals(expected, actual);
+        assertEquals(3, actual.size());
+        assertNull(actual.get(3));
+        assertEquals(List.of(4, 5, 6), new ArrayList<>(actual.keySet()));
+        assertEquals(Map.of(), LengthBuckets.of(List.of()).asMap());
+        assertEquals(-1, LengthBuckets.of(List.of()).maxLength());
+    }
+
+    @Test
+    @DisplayName("Per-chunk histograms give the same grouping in parallel ...")
+    void ofParallel_matchesSequential() {
+        for (UsingStreamsBenchmark.LengthDistribution lengths : UsingStreamsBenchmark.LengthDistribution.values()) {
+            // given
+            List<String> many = new ArrayList<>(UsingStreamsBenchmark.generate(100_000, lengths, 0.3, 4));
+            many.add("");
+            Map<Integer, List<String>> expected = many.stream().collect(Collectors.groupingBy(String::length));
+            // then
+            assertEquals(expected, LengthBuckets.ofParallel(many).asMap(), lengths.name());
+            assertEquals(expected, UsingStreams.groupWordsByLengthInParallel(many), lengths.name());
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package streams;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * File-backed counterparts of {@link UsingStreams} methods for word files too large to load as a {@code List}.
+ * <p>
+ * A file holds UTF-8 words separated by ASCII whitespace. It is memory-mapped in chunks cut at whitespace, which
+ * are tokenized in parallel directly over the mapped bytes; a {@code String} is only created where the
+ * result holds one, i.e. once per distinct word and chunk when counting, and once per word when grouping.
+ */
+public class MappedWordFile {
+
+    /** Chunks are cut near this size and then extended past the next separator. */
+    static final long DEFAULT_CHUNK_SIZE = 64L << 20;
+
+    // region Public entry points
+    /**
+     * @see UsingStreams#getWordCount(List)
+     */
+    public static Long getWordCount(Path file) throws IOException {
+        return getWordCount(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @see UsingStreams#getCounts(List)
+     */
+    public static ConcurrentMap<Object, Long> getCounts(Path file) throws IOException {
+        return getCounts(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @see UsingStreams#getCountsBasic(List)
+     */
+    public static Map<String, Integer> getCountsBasic(Path file) throws IOException {
+        return getCountsBasic(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Groups the words of the file by length in characters, keeping file order within each group.
+     *
+     * @see UsingStreams#groupWordsByLength(List)
+     */
+    public static Map<Integer, List<String>> groupWordsByLength(Path file) throws IOException {
+        return groupWordsByLength(file, DEFAULT_CHUNK_SIZE);
+    }
+    // endregion
+
+    // region Implementations with a configurable chunk size
+    static Long getWordCount(Path file, long chunkSize) throws IOException {
+        return inChunks(file, chunkSize, MappedWordFile::countTokens).stream().mapToLong(Long::longValue).sum();
+    }
+
+    static ConcurrentMap<Object, Long> getCounts(Path file, long chunkSize) throws IOException {
+        ConcurrentMap<Object, Long> result = new ConcurrentHashMap<>();
+        for (ByteKeyCounts counts : inChunks(file, chunkSize, ByteKeyCounts::of)) {
+            counts.forEach((word, count) -> result.merge(word, count, Long::sum));
+        }
+        return result;
+    }
+
+    static Map<String, Integer> getCountsBasic(Path file, long chunkSize) throws IOException {
+        StringIntCountMap result = new StringIntCountMap();
+        for (ByteKeyCounts counts : inChunks(file, chunkSize, ByteKeyCounts::of)) {
+            counts.forEach((word, count) -> {
+                // both operands are non-negative ints, so the merged total overflowed exactly if it wrapped negative
+                if (result.add(word, Math.toIntExact(count)) < 0) {
+                    throw new ArithmeticException("Count of \"" + word + "\" overflows an int");
+                }
+            });
+        }
+        return result.asMap();
+    }
+
+    static Map<Integer, List<String>> groupWordsByLength(Path file, long chunkSize) throws IOException {
+        Map<Integer, List<String>> result = new HashMap<>();
+        for (Map<Integer, List<String>> groups : inChunks(file, chunkSize, MappedWordFile::groupByLength)) {
+            groups.forEach((length, words) -> result.computeIfAbsent(length, k -> new ArrayList<>()).addAll(words));
+        }
+        return result;
+    }
+    // endregion
+
+    // region Chunking
+    private interface ChunkFunction<T> {
+        T apply(ByteBuffer chunk);
+    }
+
+    /**
+     * Maps each separator-aligned chunk of {@code file} and applies {@code function} to them in parallel.
+     *
+     * @return the per-chunk results in file order
+     */
+    private static <T> List<T> inChunks(Path file, long chunkSize, ChunkFunction<T> function) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel, chunkSize);
+            return IntStream.range(0, bounds.length - 1).parallel()
+                    .mapToObj(i -> function.apply(map(channel, bounds[i], bounds[i + 1])))
+                    .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    static long[] chunkBounds(FileChannel channel, long chunkSize) throws IOException {
+        long size = channel.size();
+        long target = Math.max(1, Math.min(chunkSize, size / ForkJoinPool.getCommonPoolParallelism() + 1));
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long position = 0;
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        while (position < size) {
+            long next = Math.min(size, position + target);
+            // move the cut just past the next separator so that no word straddles two chunks
+            while (next < size) {
+                probe.clear();
+                int read = channel.read(probe, next);
+                if (read <= 0) break;
+                int separator = -1;
+                for (int i = 0; i < read && separator < 0; i++) {
+                    if (isSeparator(probe.get(i))) separator = i;
+                }
+                if (separator >= 0) {
+                    next += separator + 1;
+                    break;
+                }
+                next += read;
+            }
+            next = Math.min(next, size);
+            if (next - position > Integer.MAX_VALUE) {
+                throw new IOException("Word starting near offset " + position + " is too long to map");
+            }
+            bounds.add(next);
+            position = next;
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long from, long to) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    // endregion
+
+    // region Tokenizing
+    static boolean isSeparator(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f' || b == 0x0B;
+    }
+
+    private static Long countTokens(ByteBuffer chunk) {
+        long tokens = 0;
+        boolean inWord = false;
+        for (int i = 0, limit = chunk.limit(); i < limit; i++) {
+            boolean separator = isSeparator(chunk.get(i));
+            if (!separator && !inWord) tokens++;
+            inWord = !separator;
+        }
+        return tokens;
+    }
+
+    private static Map<Integer, List<String>> groupByLength(ByteBuffer chunk) {
+        Map<Integer, List<String>> groups = new HashMap<>();
+        byte[] scratch = new byte[64];
+        int limit = chunk.limit();
+        int i = 0;
+        while (i < limit) {
+            while (i < limit && isSeparator(chunk.get(i))) i++;
+            int start = i;
+            while (i < limit && !isSeparator(chunk.get(i))) i++;
+            if (i == start) continue;
+            if (i - start > scratch.length) scratch = new byte[Math.max(i - start, scratch.length * 2)];
+            chunk.get(start, scratch, 0, i - start);
+            String word = new String(scratch, 0, i - start, StandardCharsets.UTF_8);
+            groups.computeIfAbsent(word.length(), k -> new ArrayList<>()).add(word);
+        }
+        return groups;
+    }
+
+    /**
+     * Per-chunk word counts keyed by byte slices, so that repeated words are counted without decoding them.
+     * Each distinct word is copied once into a private arena.
+     */
+    static final class ByteKeyCounts {
+        private byte[] arena = new byte[1024];
+        private int arenaSize;
+        private int[] offsets = new int[64];
+        private int[] lengths = new int[64];
+        private int[] hashes = new int[64];
+        private long[] counts = new long[64];
+        private int size;
+        /** Entry index + 1 per slot, 0 for an empty slot. */
+        private int[] table = new int[128];
+
+        static ByteKeyCounts of(ByteBuffer chunk) {
+            ByteKeyCounts counts = new ByteKeyCounts();
+            int limit = chunk.limit();
+            int i = 0;
+            while (i < limit) {
+                while (i < limit && isSeparator(chunk.get(i))) i++;
+                int start = i;
+                int hash = 0;
+                byte b;
+                while (i < limit && !isSeparator(b = chunk.get(i))) {
+                    hash = 31 * hash + b;
+                    i++;
+                }
+                if (i > start) counts.increment(chunk, start, i - start, hash);
+            }
+            return counts;
+        }
+
+        private void increment(ByteBuffer chunk, int start, int length, int hash) {
+            int spread = hash * 0x9E3779B9;
+            spread ^= spread >>> 16;
+            int mask = table.length - 1;
+            for (int slot = spread & mask; ; slot = (slot + 1) & mask) {
+                int entry = table[slot] - 1;
+                if (entry < 0) {
+                    table[slot] = add(chunk, start, length, hash) + 1;
+                    if (size * 2 > table.length) rehash();
+                    return;
+                }
+                if (hashes[entry] == hash && lengths[entry] == length && equal(chunk, start, entry)) {
+                    counts[entry]++;
+                    return;
+                }
+            }
+        }
+
+        private boolean equal(ByteBuffer chunk, int start, int entry) {
+            int offset = offsets[entry];
+            for (int j = 0; j < lengths[entry]; j++) {
+                if (arena[offset + j] != chunk.get(start + j)) return false;
+            }
+            return true;
+        }
+
+        private int add(ByteBuffer chunk, int start, int length, int hash) {
+            if (size == offsets.length) {
+                int capacity = size * 2;
+                offsets = Arrays.copyOf(offsets, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                hashes = Arrays.copyOf(hashes, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+            }
+            if (arenaSize + length > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(arenaSize + length, arena.length * 2));
+            }
+            chunk.get(start, arena, arenaSize, length);
+            offsets[size] = arenaSize;
+            lengths[size] = length;
+            hashes[size] = hash;
+            counts[size] = 1;
+            arenaSize += length;
+            return size++;
+        }
+
+        private void rehash() {
+            table = new int[table.length * 2];
+            int mask = table.length - 1;
+            for (int entry = 0; entry < size; entry++) {
+                int spread = hashes[entry] * 0x9E3779B9;
+                spread ^= spread >>> 16;
+                int slot = spread & mask;
+                while (table[slot] != 0) slot = (slot + 1) & mask;
+                table[slot] = entry + 1;
+            }
+        }
+
+        interface WordCountConsumer {
+            void accept(String word, long count);
+        }
+
+        void forEach(WordCountConsumer consumer) {
+            for (int entry = 0; entry < size; entry++) {
+                consumer.accept(new String(arena, offsets[entry], lengths[entry], StandardCharsets.UTF_8), counts[entry]);
+            }
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,96 @@
+package streams;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedWordFileTest {
+
+    private static final String STATES = "California Alabama Texas\nCalifornia  Nevada\tTexas\r\n\nLouisiana Texas\n";
+
+    private static Path write(Path dir, String content) throws IOException {
+        return Files.writeString(dir.resolve("words.txt"), content);
+    }
+
+    @Test
+    @DisplayName("Count the words of a file ...")
+    void getWordCount_countsTokens(@TempDir Path dir) throws IOException {
+        // given
+        Path file = write(dir, STATES);
+        // then
+        assertEquals(8L, MappedWordFile.getWordCount(file));
+        assertEquals(8L, MappedWordFile.getWordCount(file, 8));
+        assertEquals(0L, MappedWordFile.getWordCount(write(dir, "")));
+    }
+
+    @Test
+    @DisplayName("Return the count of each state from a file ...")
+    void getCounts_returnCountOfEachState(@TempDir Path dir) throws IOException {
+        // given
+        Path file = write(dir, STATES);
+        // when
+        ConcurrentMap<Object, Long> counts = MappedWordFile.getCounts(file, 8);
+        Map<String, Integer> basic = MappedWordFile.getCountsBasic(file, 8);
+        // then
+        assertEquals(3L, counts.get("Texas"));
+        assertEquals(2L, counts.get("California"));
+        assertEquals(5, counts.size());
+        assertEquals(3, basic.get("Texas"));
+        assertEquals(MappedWordFile.getCounts(file), counts);
+    }
+
+    @Test
+    @DisplayName("Group the words of a file by length in characters ...")
+    void groupWordsByLength_keepsFileOrder(@TempDir Path dir) throws IOException {
+        // given
+        Path file = write(dir, "apple banana\norange grape\npear kiwi apple café\n");
+        // when
+        Map<Integer, List<String>> groups = MappedWordFile.groupWordsByLength(file, 4);
+        // then
+        assertEquals(List.of("apple", "grape", "apple"), groups.get(5));
+        assertEquals(List.of("banana", "orange"), groups.get(6));
+        assertEquals(List.of("pear", "kiwi", "café"), groups.get(4));
+    }
+
+    @Test
+    @DisplayName("Many small chunks agree with counting in memory ...")
+    void getCounts_manyChunksMatchInMemoryCount(@TempDir Path dir) throws IOException {
+        // given
+        List<String> words = UsingStreamsBenchmark.generate(20_000, UsingStreamsBenchmark.LengthDistribution.UNIFORM, 0.8, 3);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words.size(); i++) text.append(words.get(i)).append(i % 7 == 0 ? '\n' : ' ');
+        Path file = write(dir, text.toString());
+        // when
+        Map<String, Integer> counts = MappedWordFile.getCountsBasic(file, 1000);
+        // then
+        assertEquals(StringIntCountMap.countOf(words).asMap(), counts);
+        assertEquals((long) words.size(), MappedWordFile.getWordCount(file, 1000));
+    }
+
+    @Test
+    @DisplayName("Chunks of a single-line file are cut at spaces ...")
+    void chunkBounds_cutAtAnySeparator(@TempDir Path dir) throws IOException {
+        // given
+        List<String> words = UsingStreamsBenchmark.generate(5_000, UsingStreamsBenchmark.LengthDistribution.UNIFORM, 0.8, 3);
+        Path file = write(dir, String.join(" ", words));
+        // when
+        long[] bounds;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            bounds = MappedWordFile.chunkBounds(channel, 1000);
+        }
+        // then
+        assertTrue(bounds.length > 2);
+        for (int i = 1; i < bounds.length; i++) assertTrue(bounds[i] - bounds[i - 1] <= 1000 + 64);
+        assertEquals(StringIntCountMap.countOf(words).asMap(), MappedWordFile.getCountsBasic(file, 1000));
+    }
+}
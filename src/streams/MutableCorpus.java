@@ -0,0 +1,203 @@
+package streams;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A word list that accepts appends and removals and keeps the answers of several {@link UsingStreams} queries
+ * up to date as it changes, instead of recomputing them from the whole list.
+ * <p>
+ * Every added word gets an increasing sequence number, so "first occurrence" means lowest live sequence
+ * number. Each change updates these views in {@code O(log n)} per word, or per character for the letters:
+ * <ul>
+ *   <li>counts: the sequence numbers of each distinct word, oldest first;</li>
+ *   <li>length groups: a multiset of lengths, each holding its words by sequence number, which also gives
+ *       the longest and shortest words and lengths;</li>
+ *   <li>distinct letters: for each code point, the words containing it with the index of its first
+ *       occurrence there, and one ordered set of every code point's earliest {@code (sequence, index)}.</li>
+ * </ul>
+ * Not thread-safe.
+ */
+public final class MutableCorpus {
+
+    /** Where a code point first occurs: the word's sequence number and the index within it. */
+    private record LetterKey(long sequence, int index, int codePoint) implements Comparable<LetterKey> {
+        @Override
+        public int compareTo(LetterKey other) {
+            int c = Long.compare(sequence, other.sequence);
+            return c != 0 ? c : Integer.compare(index, other.index);
+        }
+    }
+
+    private long nextSequence;
+    private int size;
+    private final Map<String, ArrayDeque<Long>> occurrences = new HashMap<>();
+    private final TreeMap<Integer, TreeMap<Long, String>> byLength = new TreeMap<>();
+    private final Map<Integer, TreeMap<Long, Integer>> letterOccurrences = new HashMap<>();
+    private final TreeSet<LetterKey> letters = new TreeSet<>();
+
+    public MutableCorpus() {
+    }
+
+    public MutableCorpus(Collection<String> words) {
+        addAll(words);
+    }
+
+    // region Changes
+    public void add(String word) {
+        long sequence = nextSequence++;
+        occurrences.computeIfAbsent(word, w -> new ArrayDeque<>(1)).addLast(sequence);
+        byLength.computeIfAbsent(word.length(), length -> new TreeMap<>()).put(sequence, word);
+        forEachFirstCodePoint(word, (codePoint, index) -> {
+            TreeMap<Long, Integer> words = letterOccurrences.computeIfAbsent(codePoint, cp -> new TreeMap<>());
+            // sequence numbers only grow, so a new word can only become a letter's first occurrence if there is none
+            if (words.isEmpty()) letters.add(new LetterKey(sequence, index, codePoint));
+            words.put(sequence, index);
+        });
+        size++;
+    }
+
+    public void addAll(Collection<String> words) {
+        for (String word : words) add(word);
+    }
+
+    /**
+     * Removes the first occurrence of {@code word}.
+     *
+     * @return whether the corpus contained {@code word}
+     */
+    public boolean remove(String word) {
+        ArrayDeque<Long> sequences = occurrences.get(word);
+        if (sequences == null) return false;
+        long sequence = sequences.pollFirst();
+        if (sequences.isEmpty()) occurrences.remove(word);
+
+        TreeMap<Long, String> group = byLength.get(word.length());
+        group.remove(sequence);
+        if (group.isEmpty()) byLength.remove(word.length());
+
+        forEachFirstCodePoint(word, (codePoint, index) -> {
+            TreeMap<Long, Integer> words = letterOccurrences.get(codePoint);
+            boolean wasFirst = words.firstKey() == sequence;
+            words.remove(sequence);
+            if (!wasFirst) return;
+            letters.remove(new LetterKey(sequence, index, codePoint));
+            if (words.isEmpty()) {
+                letterOccurrences.remove(codePoint);
+            } else {
+                Map.Entry<Long, Integer> next = words.firstEntry();
+                letters.add(new LetterKey(next.getKey(), next.getValue(), codePoint));
+            }
+        });
+        size--;
+        return true;
+    }
+
+    private interface CodePointConsumer {
+        void accept(int codePoint, int index);
+    }
+
+    /** Visits each distinct code point of {@code word} once, at the char index of its first occurrence. */
+    private static void forEachFirstCodePoint(String word, CodePointConsumer consumer) {
+        Set<Integer> seen = word.length() > 16 ? new HashSet<>() : null;
+        for (int i = 0; i < word.length(); ) {
+            int codePoint = word.codePointAt(i);
+            boolean first = seen != null ? seen.add(codePoint) : word.indexOf(codePoint) == i;
+            if (first) consumer.accept(codePoint, i);
+            i += Character.charCount(codePoint);
+        }
+    }
+    // endregion
+
+    // region Views
+    public int size() {
+        return size;
+    }
+
+    public long count(String word) {
+        ArrayDeque<Long> sequences = occurrences.get(word);
+        return sequences == null ? 0 : sequences.size();
+    }
+
+    /**
+     * Copies the counts; use {@link #count(String)} to look up single words.
+     *
+     * @see UsingStreams#getCounts(List)
+     */
+    public ConcurrentMap<Object, Long> getCounts() {
+        ConcurrentMap<Object, Long> counts = new ConcurrentHashMap<>(Math.max(16, occurrences.size() * 4 / 3 + 1));
+        occurrences.forEach((word, sequences) -> counts.put(word, (long) sequences.size()));
+        return counts;
+    }
+
+    /**
+     * @return the words of {@code length} in corpus order, as an unmodifiable live view
+     */
+    public Collection<String> wordsOfLength(int length) {
+        TreeMap<Long, String> group = byLength.get(length);
+        return group == null ? List.of() : Collections.unmodifiableCollection(group.values());
+    }
+
+    /**
+     * Copies the length groups; use {@link #wordsOfLength(int)} to read one group.
+     *
+     * @see UsingStreams#groupWordsByLength(List)
+     */
+    public Map<Integer, List<String>> groupWordsByLength() {
+        Map<Integer, List<String>> groups = new TreeMap<>();
+        byLength.forEach((length, group) -> groups.put(length, new ArrayList<>(group.values())));
+        return groups;
+    }
+
+    /**
+     * @see UsingStreams#findDistinctLettersFromWords(List)
+     */
+    public List<String> findDistinctLettersFromWords() {
+        List<String> result = new ArrayList<>(letters.size());
+        for (LetterKey letter : letters) result.add(Character.toString(letter.codePoint()));
+        return result;
+    }
+
+    /**
+     * @return the longest word length, or 0 if the corpus is empty
+     * @see UsingStreams#findMaxWordLength(List)
+     */
+    public int findMaxWordLength() {
+        return byLength.isEmpty() ? 0 : byLength.lastKey();
+    }
+
+    /**
+     * @return the shortest word length, or 0 if the corpus is empty
+     * @see UsingStreams#findMinWordLength(List)
+     */
+    public int findMinWordLength() {
+        return byLength.isEmpty() ? 0 : byLength.firstKey();
+    }
+
+    /**
+     * @return the first of the longest words, or null if the corpus is empty
+     * @see UsingStreams#findTheLongestWord(List)
+     */
+    public String findTheLongestWord() {
+        return byLength.isEmpty() ? null : byLength.lastEntry().getValue().firstEntry().getValue();
+    }
+
+    /**
+     * @return the first of the shortest words, or null if the corpus is empty
+     * @see UsingStreams#findTheShortestWord(List)
+     */
+    public String findTheShortestWord() {
+        return byLength.isEmpty() ? null : byLength.firstEntry().getValue().firstEntry().getValue();
+    }
+
+    /**
+     * @return the words in corpus order
+     */
+    public List<String> toList() {
+        TreeMap<Long, String> all = new TreeMap<>();
+        byLength.values().forEach(all::putAll);
+        return new ArrayList<>(all.values());
+    }
+    // endregion
+}
@@ -0,0 +1,94 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableCorpusTest {
+    // region Fields
+    List<String> words;
+    List<String> states;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+        states = List.of("California", "Alabama", "Texas", "California", "Nevada", "Texas", "Louisiana", "Texas");
+    }
+
+    @Test
+    @DisplayName("Views answer the tested queries over the fixture ...")
+    void views_matchFixtureExpectations() {
+        // given
+        MutableCorpus corpus = new MutableCorpus(words);
+        // then
+        assertEquals(List.of("a", "p", "l", "e", "b", "n", "o", "r", "g", "k", "i", "w"), corpus.findDistinctLettersFromWords());
+        assertEquals(6, corpus.findMaxWordLength());
+        assertEquals(4, corpus.findMinWordLength());
+        assertEquals("banana", corpus.findTheLongestWord());
+        assertEquals("pear", corpus.findTheShortestWord());
+        assertEquals(List.of("apple", "grape", "apple"), corpus.groupWordsByLength().get(5));
+        assertEquals(2L, corpus.count("apple"));
+        assertEquals(7, corpus.size());
+    }
+
+    @Test
+    @DisplayName("Removing a word updates counts, extremes and letter order ...")
+    void remove_updatesViews() {
+        // given
+        MutableCorpus corpus = new MutableCorpus(states);
+        // when
+        corpus.remove("California");
+        corpus.remove("Alabama");
+        // then
+        assertEquals(List.of("Texas", "California", "Nevada", "Texas", "Louisiana", "Texas"), corpus.toList());
+        assertEquals(1L, corpus.getCounts().get("California"));
+        assertNull(corpus.getCounts().get("Alabama"));
+        assertEquals("California", corpus.findTheLongestWord());
+        assertEquals(List.of("T", "e", "x", "a", "s", "C", "l", "i", "f", "o", "r", "n", "N", "v", "d", "L", "u"),
+                corpus.findDistinctLettersFromWords());
+        assertFalse(corpus.remove("Alabama"));
+        // when
+        corpus.remove("California");
+        // then
+        assertEquals("Louisiana", corpus.findTheLongestWord());
+        assertEquals(List.of("Texas", "Texas", "Texas"), new ArrayList<>(corpus.wordsOfLength(5)));
+    }
+
+    @Test
+    @DisplayName("Random changes agree with recomputing from scratch ...")
+    void randomChanges_matchRecomputation() {
+        // given
+        Random random = new Random(17);
+        List<String> pool = UsingStreamsBenchmark.generate(300, UsingStreamsBenchmark.LengthDistribution.SKEWED, 0.0, 6);
+        List<String> expected = new ArrayList<>();
+        MutableCorpus corpus = new MutableCorpus();
+        for (int step = 0; step < 3000; step++) {
+            // when
+            String word = random.nextBoolean() ? pool.get(random.nextInt(pool.size())) : "é😀" + random.nextInt(5);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(word), corpus.remove(word));
+            } else {
+                expected.add(word);
+                corpus.add(word);
+            }
+            if (step % 100 != 0) continue;
+            // then
+            assertEquals(expected, corpus.toList());
+            assertEquals(expected.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting())), corpus.getCounts());
+            assertEquals(expected.stream().collect(Collectors.groupingBy(String::length)), corpus.groupWordsByLength());
+            assertEquals(expected.stream().flatMapToInt(String::codePoints).distinct().mapToObj(Character::toString).toList(),
+                    corpus.findDistinctLettersFromWords());
+            assertEquals(expected.stream().mapToInt(String::length).max().orElse(0), corpus.findMaxWordLength());
+            assertEquals(expected.stream().reduce((a, b) -> b.length() > a.length() ? b : a).orElse(null), corpus.findTheLongestWord());
+            assertEquals(expected.stream().reduce((a, b) -> b.length() < a.length() ? b : a).orElse(null), corpus.findTheShortestWord());
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package streams;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * A {@link WordCorpus} stored outside the Java heap, UTF-8 encoded.
+ * <p>
+ * Word bytes are packed into pages and the per-word columns (page, offset, byte length, char length, hash)
+ * live in pages as well, so the heap only holds a few buffer objects per gigabyte. Queries compare UTF-8
+ * bytes in place; since UTF-8 is self-synchronizing, byte-wise prefix and substring matches agree with the
+ * {@code String} ones for well-formed text. A {@code String} is only decoded by {@link #word(int)}.
+ * <p>
+ * By default pages are direct buffers, which the JVM caps at {@code -XX:MaxDirectMemorySize}; that limit
+ * defaults to the maximum heap size, so a corpus larger than the heap needs the flag raised, e.g.
+ * {@code -XX:MaxDirectMemorySize=64g}. A {@link Builder#Builder(Path) file-backed} builder instead maps pages
+ * of temporary files in {@code tempDirectory}, which are not counted against that limit and are paged by
+ * the operating system; the files are unlinked right after mapping.
+ * <p>
+ * The memory is released when the corpus becomes unreachable.
+ */
+public final class OffHeapWordCorpus implements WordCorpus {
+
+    static final int DEFAULT_PAGE_SIZE = 1 << 28;
+    private static final int COLUMN_BYTES = 5 * Integer.BYTES;
+    private static final int WORDS_PER_COLUMN_PAGE = 1 << 20;
+
+    private final ByteBuffer[] pages;
+    private final ByteBuffer[] columns;
+    private final int size;
+
+    private OffHeapWordCorpus(ByteBuffer[] pages, ByteBuffer[] columns, int size) {
+        this.pages = pages;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    public static OffHeapWordCorpus of(List<String> words) {
+        Builder builder = new Builder();
+        for (String word : words) {
+            builder.add(word);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Appends words off heap; words can be streamed in so no list of them needs to exist on heap.
+     */
+    public static final class Builder {
+        private final int pageSize;
+        private final Path tempDirectory;
+        private final List<ByteBuffer> pages = new ArrayList<>();
+        private final List<ByteBuffer> columns = new ArrayList<>();
+        private int size;
+
+        public Builder() {
+            this(DEFAULT_PAGE_SIZE);
+        }
+
+        /**
+         * A builder whose pages are mapped temporary files in {@code tempDirectory} rather than direct buffers.
+         */
+        public Builder(Path tempDirectory) {
+            this(DEFAULT_PAGE_SIZE, tempDirectory);
+        }
+
+        Builder(int pageSize) {
+            this(pageSize, null);
+        }
+
+        Builder(int pageSize, Path tempDirectory) {
+            this.pageSize = pageSize;
+            this.tempDirectory = tempDirectory;
+        }
+
+        public Builder add(String word) {
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            if (pages.isEmpty() || pages.get(pages.size() - 1).remaining() < bytes.length) {
+                // pages double up to pageSize, so small corpora do not reserve a full page
+                int previous = pages.isEmpty() ? 2048 : pages.get(pages.size() - 1).capacity();
+                pages.add(allocate(Math.max(bytes.length, Math.min(pageSize, previous * 2))));
+            }
+            ByteBuffer page = pages.get(pages.size() - 1);
+            ByteBuffer column = columns.isEmpty() ? null : columns.get(columns.size() - 1);
+            if (column == null || !column.hasRemaining()) {
+                // same for the column pages: the last one grows by doubling until it holds a full page of words
+                if (column != null && column.capacity() < WORDS_PER_COLUMN_PAGE * COLUMN_BYTES) {
+                    ByteBuffer grown = allocate(column.capacity() * 2);
+                    grown.put(column.flip());
+                    columns.set(columns.size() - 1, grown);
+                    column = grown;
+                } else {
+                    column = allocate(64 * COLUMN_BYTES);
+                    columns.add(column);
+                }
+            }
+            column.putInt(pages.size() - 1)
+                    .putInt(page.position())
+                    .putInt(bytes.length)
+                    .putInt(word.length())
+                    .putInt(word.hashCode());
+            page.put(bytes);
+            if (size == Integer.MAX_VALUE) throw new IllegalStateException("Corpus exceeds Integer.MAX_VALUE words");
+            size++;
+            return this;
+        }
+
+        private ByteBuffer allocate(int capacity) {
+            if (tempDirectory == null) return ByteBuffer.allocateDirect(capacity);
+            try {
+                Path file = Files.createTempFile(tempDirectory, "corpus-", ".page");
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                } finally {
+                    // the mapping outlives the directory entry; where unlinking a mapped file fails, defer it
+                    try {
+                        Files.delete(file);
+                    } catch (IOException e) {
+                        file.toFile().deleteOnExit();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public OffHeapWordCorpus build() {
+            return new OffHeapWordCorpus(pages.toArray(new ByteBuffer[0]), columns.toArray(new ByteBuffer[0]), size);
+        }
+    }
+
+    // region Columns
+    private int column(int index, int field) {
+        return columns[index / WORDS_PER_COLUMN_PAGE]
+                .getInt((index % WORDS_PER_COLUMN_PAGE) * COLUMN_BYTES + field * Integer.BYTES);
+    }
+
+    private ByteBuffer page(int index) {
+        return pages[column(index, 0)];
+    }
+
+    private int offset(int index) {
+        return column(index, 1);
+    }
+
+    private int byteLength(int index) {
+        return column(index, 2);
+    }
+    // endregion
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int length(int index) {
+        return column(index, 3);
+    }
+
+    @Override
+    public String word(int index) {
+        byte[] bytes = new byte[byteLength(index)];
+        page(index).get(offset(index), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int hash(int index) {
+        return column(index, 4);
+    }
+
+    @Override
+    public boolean wordEquals(int i, int j) {
+        int length = byteLength(i);
+        if (hash(i) != hash(j) || length != byteLength(j)) return false;
+        return regionMatches(page(i), offset(i), page(j), offset(j), length);
+    }
+
+    @Override
+    public IntPredicate startingWith(String prefix) {
+        ByteBuffer p = ByteBuffer.wrap(prefix.getBytes(StandardCharsets.UTF_8));
+        int length = p.capacity();
+        return index -> byteLength(index) >= length && regionMatches(page(index), offset(index), p, 0, length);
+    }
+
+    @Override
+    public IntPredicate containing(String part) {
+        ByteBuffer p = ByteBuffer.wrap(part.getBytes(StandardCharsets.UTF_8));
+        int length = p.capacity();
+        return index -> {
+            ByteBuffer page = page(index);
+            for (int i = offset(index), last = offset(index) + byteLength(index) - length; i <= last; i++) {
+                if (regionMatches(page, i, p, 0, length)) return true;
+            }
+            return false;
+        };
+    }
+
+    private static boolean regionMatches(ByteBuffer a, int from, ByteBuffer b, int bFrom, int length) {
+        for (int k = 0; k < length; k++) {
+            if (a.get(from + k) != b.get(bFrom + k)) return false;
+        }
+        return true;
+    }
+}
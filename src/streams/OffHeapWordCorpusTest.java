@@ -0,0 +1,107 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapWordCorpusTest {
+    // region Fields
+    List<String> words;
+    WordCorpus corpus;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+        corpus = OffHeapWordCorpus.of(words);
+    }
+
+    @Test
+    @DisplayName("Off-heap corpus returns the words it was built from ...")
+    void of_roundTripsWords() {
+        assertEquals(words, corpus.toList());
+        assertEquals("banana".hashCode(), corpus.hash(1));
+        assertTrue(corpus.wordEquals(0, 6));
+        assertFalse(corpus.wordEquals(0, 3));
+    }
+
+    @Test
+    @DisplayName("UsingStreams queries work on the off-heap corpus ...")
+    void usingStreamsQueries() {
+        assertEquals(2L, UsingStreams.getCounts(corpus).get("apple"));
+        assertEquals(1, UsingStreams.countWordsStartingWith(corpus, "b"));
+        assertEquals(List.of("apple", "grape", "pear", "apple"), UsingStreams.findWordsContaining(corpus, "p"));
+        assertEquals(List.of("apple", "grape", "apple"), UsingStreams.findWordsWithLengthOf(corpus, 5));
+        assertEquals(6, UsingStreams.findIndexOfLastWordStartingWith(corpus, "a"));
+        assertEquals(35, UsingStreams.calculateTotalLengthofAllWords(corpus));
+    }
+
+    @Test
+    @DisplayName("Multi-byte words keep char lengths and match by bytes ...")
+    void unicodeWords() {
+        // given
+        OffHeapWordCorpus.Builder builder = new OffHeapWordCorpus.Builder(8);
+        List<String> unicode = List.of("café", "naïve", "日本語", "crème", "café");
+        unicode.forEach(builder::add);
+        WordCorpus small = builder.build();
+        // then
+        assertEquals(unicode, small.toList());
+        assertEquals(3, small.length(2));
+        assertEquals(List.of("café", "café"), UsingStreams.findWordsContaining(small, "é"));
+        assertEquals(1, UsingStreams.countWordsStartingWith(small, "日本"));
+        assertEquals(2, UsingStreams.getCountsBasic(small).get("café"));
+    }
+
+    @Test
+    @DisplayName("Growing pages and columns keep every word ...")
+    void builder_manyWordsAcrossPages() {
+        // given
+        List<String> large = UsingStreamsBenchmark.generate(50_000, UsingStreamsBenchmark.LengthDistribution.SKEWED, 0.5, 11);
+        OffHeapWordCorpus.Builder builder = new OffHeapWordCorpus.Builder(4096);
+        large.forEach(builder::add);
+        // when
+        WordCorpus offHeap = builder.build();
+        // then
+        assertEquals(large, offHeap.toList());
+        assertEquals(StringIntCountMap.countOf(large).asMap(), UsingStreams.getCountsBasic(offHeap));
+    }
+
+    private static long poolBytes(String name) {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals(name))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+
+    @Test
+    @DisplayName("File-backed pages stay outside the direct memory limit ...")
+    void builder_fileBackedPages(@TempDir Path dir) throws Exception {
+        // given
+        List<String> large = UsingStreamsBenchmark.generate(50_000, UsingStreamsBenchmark.LengthDistribution.UNIFORM, 0.5, 13);
+        long direct = poolBytes("direct");
+        long mapped = poolBytes("mapped");
+        // when: -XX:MaxDirectMemorySize only limits the "direct" pool
+        OffHeapWordCorpus.Builder builder = new OffHeapWordCorpus.Builder(1 << 16, dir);
+        large.forEach(builder::add);
+        WordCorpus fileBacked = builder.build();
+        // then
+        assertEquals(large, fileBacked.toList());
+        assertEquals(StringIntCountMap.countOf(large).asMap(), UsingStreams.getCountsBasic(fileBacked));
+        assertTrue(poolBytes("mapped") - mapped >= 50_000 * 5L * Integer.BYTES);
+        assertTrue(poolBytes("direct") - direct < 50_000);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
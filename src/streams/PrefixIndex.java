@@ -0,0 +1,210 @@
+package streams;
+
+import java.util.*;
+
+/**
+ * A read-only index answering starts-with queries against a fixed list of words.
+ * <p>
+ * Words are kept sorted next to their original positions, so all words sharing a prefix form one contiguous
+ * range found by two binary searches. Two segment trees over the positions give the smallest and largest
+ * original index within any range, which makes every query except {@link #matches(String)} cost
+ * O(prefix length * log n) instead of a scan of the list; {@link #matches(String)} additionally sorts the
+ * matching positions.
+ * <p>
+ * Building the index is O(n log n); it pays for itself once many prefixes are queried against the same words.
+ */
+public class PrefixIndex {
+
+    private final String[] words;
+    private final String[] sorted;
+    private final int[] positions;
+    private final int[] minTree;
+    private final int[] maxTree;
+
+    private PrefixIndex(String[] words, String[] sorted, int[] positions) {
+        this.words = words;
+        this.sorted = sorted;
+        this.positions = positions;
+        int n = positions.length;
+        this.minTree = new int[2 * n];
+        this.maxTree = new int[2 * n];
+        System.arraycopy(positions, 0, minTree, n, n);
+        System.arraycopy(positions, 0, maxTree, n, n);
+        for (int i = n - 1; i > 0; i--) {
+            minTree[i] = Math.min(minTree[2 * i], minTree[2 * i + 1]);
+            maxTree[i] = Math.max(maxTree[2 * i], maxTree[2 * i + 1]);
+        }
+    }
+
+    /**
+     * @param words given list of strings, must not contain {@code null}
+     */
+    public static PrefixIndex of(List<String> words) {
+        String[] array = words.toArray(new String[0]);
+        String[] sorted = array.clone();
+        int[] positions = new int[array.length];
+        for (int i = 0; i < positions.length; i++) positions[i] = i;
+        mergeSort(sorted, positions, sorted.clone(), positions.clone(), 0, sorted.length);
+        return new PrefixIndex(array, sorted, positions);
+    }
+
+    // region Sorting
+    static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * Stable merge sort of {@code words[from..to)} that moves {@code positions} along, so equal words keep
+     * ascending positions without boxing an index permutation. {@code auxWords} and {@code auxPositions} start
+     * as copies of the sorted arrays; the two pairs swap roles at each level.
+     */
+    private static void mergeSort(String[] words, int[] positions, String[] auxWords, int[] auxPositions, int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(words, positions, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(auxWords, auxPositions, words, positions, from, mid);
+        mergeSort(auxWords, auxPositions, words, positions, mid, to);
+        if (auxWords[mid - 1].compareTo(auxWords[mid]) <= 0) {
+            System.arraycopy(auxWords, from, words, from, to - from);
+            System.arraycopy(auxPositions, from, positions, from, to - from);
+            return;
+        }
+        for (int i = from, left = from, right = mid; i < to; i++) {
+            boolean takeLeft = right == to || left < mid && auxWords[left].compareTo(auxWords[right]) <= 0;
+            int source = takeLeft ? left++ : right++;
+            words[i] = auxWords[source];
+            positions[i] = auxPositions[source];
+        }
+    }
+
+    private static void insertionSort(String[] words, int[] positions, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            String word = words[i];
+            int position = positions[i];
+            int j = i;
+            while (j > from && words[j - 1].compareTo(word) > 0) {
+                words[j] = words[j - 1];
+                positions[j] = positions[j - 1];
+                j--;
+            }
+            words[j] = word;
+            positions[j] = position;
+        }
+    }
+    // endregion
+
+    public int size() {
+        return sorted.length;
+    }
+
+    // region Queries
+    /**
+     * @see UsingStreams#checkIfStartsWith(List, String)
+     * @see UsingStreams#noWordsStartWith(List, String)
+     */
+    public boolean anyStartsWith(String prefix) {
+        int from = lowerBound(prefix);
+        return from < sorted.length && sorted[from].startsWith(prefix);
+    }
+
+    /**
+     * @see UsingStreams#countWordsStartingWith(List, String)
+     */
+    public int count(String prefix) {
+        int from = lowerBound(prefix);
+        return upperBound(prefix, from) - from;
+    }
+
+    /**
+     * @return the original index of the first word starting with {@code prefix}, or -1
+     * @see UsingStreams#findIndexOfFirstWordStartingWith(List, String)
+     */
+    public int firstIndex(String prefix) {
+        int from = lowerBound(prefix);
+        int to = upperBound(prefix, from);
+        return from == to ? -1 : query(minTree, from, to, Integer.MAX_VALUE, true);
+    }
+
+    /**
+     * @return the original index of the last word starting with {@code prefix}, or -1
+     * @see UsingStreams#findIndexOfLastWordStartingWith(List, String)
+     */
+    public int lastIndex(String prefix) {
+        int from = lowerBound(prefix);
+        int to = upperBound(prefix, from);
+        return from == to ? -1 : query(maxTree, from, to, Integer.MIN_VALUE, false);
+    }
+
+    /**
+     * @return the first word in original order starting with {@code prefix}, or {@code null}
+     * @see UsingStreams#findFirstStartsWith(List, String)
+     */
+    public String findFirst(String prefix) {
+        int index = firstIndex(prefix);
+        return index < 0 ? null : words[index];
+    }
+
+    /**
+     * @return some word starting with {@code prefix}, or {@code null}
+     * @see UsingStreams#findAnyStartsWith(List, String)
+     */
+    public String findAny(String prefix) {
+        int from = lowerBound(prefix);
+        return from < sorted.length && sorted[from].startsWith(prefix) ? sorted[from] : null;
+    }
+
+    /**
+     * @return every word starting with {@code prefix}, in original order
+     * @see UsingStreams#getWordsThatStartWithA(List)
+     */
+    public List<String> matches(String prefix) {
+        int from = lowerBound(prefix);
+        int to = upperBound(prefix, from);
+        int[] matched = Arrays.copyOfRange(positions, from, to);
+        Arrays.sort(matched);
+        List<String> result = new ArrayList<>(matched.length);
+        for (int position : matched) result.add(words[position]);
+        return result;
+    }
+    // endregion
+
+    // region Search helpers
+    /** First slot whose word is not less than {@code prefix}. */
+    private int lowerBound(String prefix) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].compareTo(prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** First slot at or after {@code from} whose word does not start with {@code prefix}. */
+    private int upperBound(String prefix, int from) {
+        int lo = from, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].startsWith(prefix)) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** Min or max of {@code positions[from, to)} using the given segment tree. */
+    private int query(int[] tree, int from, int to, int identity, boolean min) {
+        int result = identity;
+        for (int l = from + sorted.length, r = to + sorted.length; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                result = min ? Math.min(result, tree[l]) : Math.max(result, tree[l]);
+                l++;
+            }
+            if ((r & 1) == 1) {
+                r--;
+                result = min ? Math.min(result, tree[r]) : Math.max(result, tree[r]);
+            }
+        }
+        return result;
+    }
+    // endregion
+}
@@ -0,0 +1,81 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+    // region Fields
+    List<String> words;
+    PrefixIndex index;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+        index = PrefixIndex.of(words);
+    }
+
+    @Test
+    @DisplayName("Existence and counts of words starting with ...")
+    void anyStartsWithAndCount() {
+        assertTrue(index.anyStartsWith("g"));
+        assertFalse(index.anyStartsWith("z"));
+        assertEquals(1, index.count("b"));
+        assertEquals(2, index.count("ap"));
+        assertEquals(0, index.count("z"));
+        assertEquals(words.size(), index.count(""));
+    }
+
+    @Test
+    @DisplayName("First and last index of words starting with ...")
+    void firstAndLastIndex() {
+        assertEquals(3, index.firstIndex("g"));
+        assertEquals(0, index.firstIndex("a"));
+        assertEquals(6, index.lastIndex("a"));
+        assertEquals(1, index.lastIndex("b"));
+        assertEquals(-1, index.firstIndex("z"));
+        assertEquals(-1, index.lastIndex("z"));
+    }
+
+    @Test
+    @DisplayName("First, any and all words starting with ...")
+    void findAndMatches() {
+        assertEquals("orange", index.findFirst("o"));
+        assertNull(index.findFirst("z"));
+        assertEquals("kiwi", index.findAny("k"));
+        assertNull(index.findAny("z"));
+        assertEquals(List.of("apple", "apple"), index.matches("a"));
+        assertEquals(List.of("pear"), index.matches("p"));
+        assertEquals(words, index.matches(""));
+    }
+
+    @Test
+    @DisplayName("Index agrees with a linear scan on a larger vocabulary ...")
+    void agreesWithLinearScan() {
+        // given
+        List<String> large = UsingStreamsBenchmark.generate(5_000, UsingStreamsBenchmark.LengthDistribution.UNIFORM, 0.3, 7);
+        PrefixIndex largeIndex = PrefixIndex.of(large);
+        for (String prefix : List.of("a", "ab", "q", "zz", "m")) {
+            // when
+            List<String> expected = large.stream().filter(w -> w.startsWith(prefix)).toList();
+            int first = -1, last = -1;
+            for (int i = 0; i < large.size(); i++) {
+                if (large.get(i).startsWith(prefix)) {
+                    if (first < 0) first = i;
+                    last = i;
+                }
+            }
+            // then
+            assertEquals(expected, largeIndex.matches(prefix));
+            assertEquals(expected.size(), largeIndex.count(prefix));
+            assertEquals(first, largeIndex.firstIndex(prefix));
+            assertEquals(last, largeIndex.lastIndex(prefix));
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package streams;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * An opt-in cache of {@link UsingStreams} query results over corpora that change rarely.
+ * <p>
+ * Words are {@link #publish(List) published} as an immutable, numbered {@link Corpus} snapshot, and queries
+ * made through the snapshot are cached under {@code (version, method, arguments)}. Publishing a different word
+ * list starts a new version and drops every entry of the old ones; republishing equal words keeps the current
+ * version and its entries. Queries on a superseded snapshot are still answered, just not cached.
+ * <p>
+ * Memory is bounded by an estimate of the retained size of the cached results: entries are kept in LRU order
+ * and the least recently used are evicted once the total exceeds the budget. Results too large for the budget
+ * are returned without being cached. Results are cached as returned by the query, keeping their runtime type,
+ * and every hit shares the same instance: callers must not modify them. The built-in queries wrap their
+ * results in unmodifiable views; generic queries should return immutable results or values nobody mutates.
+ * <pre>
+ *   QueryCache cache = new QueryCache(16L &lt;&lt; 20);
+ *   QueryCache.Corpus corpus = cache.publish(words);
+ *   List&lt;String&gt; fives = corpus.findWordsWithLengthOf(5); // computed
+ *   fives = corpus.findWordsWithLengthOf(5);                // cached
+ * </pre>
+ */
+public class QueryCache {
+
+    private record Key(long version, String method, List<Object> arguments) {
+    }
+
+    private record Entry(Object value, long weight) {
+    }
+
+    /** Stands in for a null result, which is cached like any other. */
+    private static final Object NULL = new Object();
+
+    private final long maxWeight;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private Corpus current;
+
+    /**
+     * @param maxWeight budget for the estimated retained size of all cached results, in bytes
+     */
+    public QueryCache(long maxWeight) {
+        if (maxWeight <= 0) throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+        this.maxWeight = maxWeight;
+        this.current = new Corpus(0, List.of(), fingerprint(List.of()));
+    }
+
+    /** An immutable, versioned word list whose query results are cached. */
+    public final class Corpus {
+        private final long version;
+        private final List<String> words;
+        private final long fingerprint;
+
+        private Corpus(long version, List<String> words, long fingerprint) {
+            this.version = version;
+            this.words = words;
+            this.fingerprint = fingerprint;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public List<String> words() {
+            return words;
+        }
+
+        /**
+         * @see UsingStreams#findWordsWithLengthOf(List, int)
+         */
+        public List<String> findWordsWithLengthOf(int length) {
+            return query("findWordsWithLengthOf", w -> unmodifiable(UsingStreams.findWordsWithLengthOf(w, length)), length);
+        }
+
+        /**
+         * @see UsingStreams#countWordsStartingWith(List, String)
+         */
+        public long countWordsStartingWith(String start) {
+            return query("countWordsStartingWith", w -> UsingStreams.countWordsStartingWith(w, start), start);
+        }
+
+        /**
+         * @see UsingStreams#groupWordsByLength(List)
+         */
+        public Map<Integer, List<String>> groupWordsByLength() {
+            return query("groupWordsByLength", w -> unmodifiable(UsingStreams.groupWordsByLength(w)));
+        }
+
+        /**
+         * Returns the cached result of {@code method} with {@code arguments}, computing it over the words on a
+         * miss. {@code method} and {@code arguments} must identify {@code query} exactly, and the arguments
+         * should be immutable values.
+         */
+        public <T> T query(String method, Function<List<String>, T> query, Object... arguments) {
+            return lookup(this, new Key(version, method, Arrays.asList(arguments.clone())), query);
+        }
+    }
+
+    // region Publishing
+    /**
+     * Makes a snapshot of {@code words} the current corpus, invalidating the results of earlier versions
+     * unless the words are unchanged.
+     */
+    public Corpus publish(List<String> words) {
+        List<String> snapshot = List.copyOf(words);
+        long fingerprint = fingerprint(snapshot);
+        synchronized (this) {
+            if (fingerprint == current.fingerprint && snapshot.equals(current.words)) return current;
+            current = new Corpus(current.version + 1, snapshot, fingerprint);
+            entries.clear();
+            weight = 0;
+            return current;
+        }
+    }
+
+    public synchronized Corpus current() {
+        return current;
+    }
+
+    private static long fingerprint(List<String> words) {
+        long h = words.size();
+        for (String word : words) h = WordHash.mix(h * 31 + WordHash.hash64(word));
+        return h;
+    }
+    // endregion
+
+    // region Lookup and eviction
+    @SuppressWarnings("unchecked")
+    private <T> T lookup(Corpus corpus, Key key, Function<List<String>, T> query) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.value == NULL ? null : (T) entry.value;
+            }
+            misses++;
+        }
+        // computed outside the lock so slow queries do not block hits; racing misses may both compute
+        T value = query.apply(corpus.words);
+        long size = Weigher.weigh(value);
+        synchronized (this) {
+            if (corpus != current || size > maxWeight) return value;
+            Entry previous = entries.put(key, new Entry(value == null ? NULL : value, size));
+            weight += size - (previous == null ? 0 : previous.weight);
+            evictToBudget();
+        }
+        return value;
+    }
+
+    private void evictToBudget() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static List<String> unmodifiable(List<String> words) {
+        return words == null ? null : Collections.unmodifiableList(words);
+    }
+
+    private static Map<Integer, List<String>> unmodifiable(Map<Integer, List<String>> groups) {
+        if (groups == null) return null;
+        Map<Integer, List<String>> views = new HashMap<>(groups);
+        views.replaceAll((length, words) -> unmodifiable(words));
+        return Collections.unmodifiableMap(views);
+    }
+    // endregion
+
+    // region Metrics
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the estimated retained size of the cached results, in bytes
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        weight = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "QueryCache[version=" + current.version + ", size=" + entries.size() + ", weight=" + weight
+                + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+    // endregion
+
+    /** Rough retained-size estimates for typical query results, assuming compressed references. */
+    static final class Weigher {
+        private static final int OBJECT = 16;
+        private static final int REFERENCE = 4;
+        private static final int ENTRY = 32;
+
+        private Weigher() {
+        }
+
+        static long weigh(Object value) {
+            if (value == null) return 0;
+            if (value instanceof String s) return OBJECT + 24 + 2L * s.length();
+            if (value instanceof Collection<?> c) {
+                long size = OBJECT + 24;
+                for (Object element : c) size += REFERENCE + weigh(element);
+                return size;
+            }
+            if (value instanceof Map<?, ?> m) {
+                long size = OBJECT + 48;
+                for (Map.Entry<?, ?> e : m.entrySet()) size += ENTRY + weigh(e.getKey()) + weigh(e.getValue());
+                return size;
+            }
+            return OBJECT + 8;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCacheTest {
+    // region Fields
+    List<String> words;
+    QueryCache cache;
+    AtomicInteger computations;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+        cache = new QueryCache(1 << 20);
+        computations = new AtomicInteger();
+    }
+
+    private Function<List<String>, List<String>> wordsWithLength(int length) {
+        return w -> {
+            computations.incrementAndGet();
+            return w.stream().filter(word -> word.length() == length).toList();
+        };
+    }
+
+    @Test
+    @DisplayName("Repeated queries with equal arguments are computed once ...")
+    void query_cachesByMethodAndArguments() {
+        // given
+        QueryCache.Corpus corpus = cache.publish(words);
+        // when
+        List<String> first = corpus.query("wordsWithLength", wordsWithLength(5), 5);
+        List<String> second = corpus.query("wordsWithLength", wordsWithLength(5), 5);
+        List<String> other = corpus.query("wordsWithLength", wordsWithLength(4), 4);
+        // then
+        assertEquals(List.of("apple", "grape", "apple"), first);
+        assertSame(first, second);
+        assertEquals(List.of("pear", "kiwi"), other);
+        assertEquals(2, computations.get());
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+        assertEquals(2, cache.size());
+        assertThrows(UnsupportedOperationException.class, () -> first.add("x"));
+    }
+
+    @Test
+    @DisplayName("Publishing new words invalidates, publishing equal words does not ...")
+    void publish_invalidatesOnNewVersion() {
+        // given
+        QueryCache.Corpus corpus = cache.publish(words);
+        corpus.query("wordsWithLength", wordsWithLength(5), 5);
+        // when
+        QueryCache.Corpus same = cache.publish(new ArrayList<>(words));
+        same.query("wordsWithLength", wordsWithLength(5), 5);
+        List<String> changed = new ArrayList<>(words);
+        changed.add("mango");
+        QueryCache.Corpus next = cache.publish(changed);
+        // then
+        assertSame(corpus, same);
+        assertEquals(1, computations.get());
+        assertEquals(corpus.version() + 1, next.version());
+        assertEquals(0, cache.size());
+        assertEquals(List.of("apple", "grape", "apple", "mango"), next.query("wordsWithLength", wordsWithLength(5), 5));
+        // a superseded snapshot still answers, but is no longer cached
+        corpus.query("wordsWithLength", wordsWithLength(5), 5);
+        corpus.query("wordsWithLength", wordsWithLength(5), 5);
+        assertEquals(4, computations.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("The least recently used results are evicted to stay within budget ...")
+    void lookup_evictsLeastRecentlyUsed() {
+        // given
+        QueryCache small = new QueryCache(400);
+        QueryCache.Corpus corpus = small.publish(words);
+        // when: the groups of lengths 4, 5 and 6 fit only two at a time
+        corpus.query("wordsWithLength", wordsWithLength(4), 4);
+        corpus.query("wordsWithLength", wordsWithLength(5), 5);
+        corpus.query("wordsWithLength", wordsWithLength(4), 4);
+        corpus.query("wordsWithLength", wordsWithLength(6), 6);
+        int before = computations.get();
+        corpus.query("wordsWithLength", wordsWithLength(4), 4);
+        corpus.query("wordsWithLength", wordsWithLength(5), 5);
+        // then
+        assertTrue(small.weight() <= 400);
+        assertEquals(2, small.evictions());
+        assertEquals(before + 1, computations.get());
+        assertTrue(QueryCache.Weigher.weigh(List.of("apple")) > QueryCache.Weigher.weigh(List.of()));
+    }
+
+    @Test
+    @DisplayName("UsingStreams queries go through the cache ...")
+    void corpusMethods_delegateToUsingStreams() {
+        // given
+        QueryCache.Corpus corpus = cache.publish(words);
+        // when
+        corpus.groupWordsByLength();
+        corpus.findWordsWithLengthOf(5);
+        corpus.countWordsStartingWith("a");
+        // then
+        assertEquals(UsingStreams.groupWordsByLength(words), corpus.groupWordsByLength());
+        assertEquals(UsingStreams.findWordsWithLengthOf(words, 5), corpus.findWordsWithLengthOf(5));
+        assertEquals(UsingStreams.countWordsStartingWith(words, "a"), corpus.countWordsStartingWith("a"));
+        assertEquals(3, cache.hits());
+        assertEquals(3, cache.misses());
+    }
+
+    @Test
+    @DisplayName("Cached results keep the runtime type the query returned ...")
+    void query_keepsResultType() {
+        // given
+        List<String> states = List.of("California", "Alabama", "Texas", "California", "Nevada", "Texas", "Louisiana", "Texas");
+        QueryCache.Corpus corpus = cache.publish(states);
+        // when
+        ConcurrentMap<Object, Long> first = corpus.query("getCounts", CountingEngine::countOf);
+        ConcurrentMap<Object, Long> second = corpus.query("getCounts", CountingEngine::countOf);
+        TreeMap<Integer, List<String>> sorted = corpus.query("sortedGroups",
+                w -> new TreeMap<>(Map.of(5, List.of("Texas"))));
+        // then
+        assertEquals(3L, first.get("Texas"));
+        assertSame(first, second);
+        assertEquals(1, cache.hits());
+        assertEquals(List.of("Texas"), sorted.firstEntry().getValue());
+    }
+}
@@ -0,0 +1,173 @@
+package streams;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Rolling word counts over a continuous feed, with the semantics of {@link UsingStreams#getCounts(List)} and
+ * {@link UsingStreams#getCountsBasic(List)} restricted to a recent window.
+ * <p>
+ * The window is either the last N events ({@link #lastEvents(int)}) or the last T of time
+ * ({@link #lastDuration(Duration, int)}). Appends update a running total per word, and events leaving the
+ * window are subtracted as they expire: one at a time from a ring of events, or a whole ring bucket at a
+ * time for time windows. Reading the counts therefore costs O(distinct words in the window), never a rescan
+ * of history. Words whose count drops to zero are forgotten.
+ * <p>
+ * All methods are thread-safe.
+ */
+public abstract sealed class SlidingWindowCounter
+        permits SlidingWindowCounter.EventWindow, SlidingWindowCounter.TimeWindow {
+
+    /** Running totals of the events currently inside the window. */
+    private final Map<String, long[]> totals = new HashMap<>();
+    private long events;
+
+    public static SlidingWindowCounter lastEvents(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        return new EventWindow(capacity);
+    }
+
+    /**
+     * @param buckets how finely the window is divided; events expire one bucket, i.e. {@code window / buckets},
+     *                at a time
+     */
+    public static SlidingWindowCounter lastDuration(Duration window, int buckets) {
+        return lastDuration(window, buckets, System::nanoTime);
+    }
+
+    static SlidingWindowCounter lastDuration(Duration window, int buckets, LongSupplier nanoClock) {
+        if (buckets <= 0) throw new IllegalArgumentException("buckets must be positive: " + buckets);
+        long width = Math.max(1, window.toNanos() / buckets);
+        return new TimeWindow(buckets, width, nanoClock);
+    }
+
+    // region Public API
+    public synchronized void add(String word) {
+        advance();
+        totals.computeIfAbsent(word, k -> new long[1])[0]++;
+        events++;
+        record(word);
+    }
+
+    public synchronized void addAll(List<String> words) {
+        for (String word : words) {
+            add(word);
+        }
+    }
+
+    public synchronized long get(String word) {
+        advance();
+        long[] total = totals.get(word);
+        return total == null ? 0 : total[0];
+    }
+
+    /**
+     * @return the number of events inside the window
+     */
+    public synchronized long size() {
+        advance();
+        return events;
+    }
+
+    /**
+     * @return a snapshot of the window's counts, shaped like {@link UsingStreams#getCounts(List)}
+     */
+    public synchronized ConcurrentMap<Object, Long> counts() {
+        advance();
+        ConcurrentMap<Object, Long> result = new ConcurrentHashMap<>(Math.max(16, totals.size() * 4 / 3 + 1));
+        totals.forEach((word, total) -> result.put(word, total[0]));
+        return result;
+    }
+
+    /**
+     * @return a snapshot of the window's counts, shaped like {@link UsingStreams#getCountsBasic(List)}
+     */
+    public synchronized Map<String, Integer> countsBasic() {
+        advance();
+        StringIntCountMap result = new StringIntCountMap(totals.size());
+        totals.forEach((word, total) -> result.add(word, Math.toIntExact(total[0])));
+        return result.asMap();
+    }
+    // endregion
+
+    // region Window bookkeeping
+    /** Remembers {@code word} so it can be expired later; called after it was added to the totals. */
+    abstract void record(String word);
+
+    /** Expires whatever has left the window by now. */
+    abstract void advance();
+
+    final void expire(String word, long times) {
+        long[] total = totals.get(word);
+        total[0] -= times;
+        events -= times;
+        if (total[0] == 0) totals.remove(word);
+    }
+
+    static final class EventWindow extends SlidingWindowCounter {
+        private final String[] ring;
+        private int next;
+        private boolean full;
+
+        EventWindow(int capacity) {
+            ring = new String[capacity];
+        }
+
+        @Override
+        void record(String word) {
+            if (full) expire(ring[next], 1);
+            ring[next] = word;
+            if (++next == ring.length) {
+                next = 0;
+                full = true;
+            }
+        }
+
+        @Override
+        void advance() {
+            // expiry happens on append
+        }
+    }
+
+    static final class TimeWindow extends SlidingWindowCounter {
+        private final List<Map<String, long[]>> buckets;
+        private final long width;
+        private final LongSupplier clock;
+        private long epoch;
+
+        TimeWindow(int buckets, long width, LongSupplier clock) {
+            this.buckets = new ArrayList<>(buckets);
+            for (int i = 0; i < buckets; i++) {
+                this.buckets.add(new HashMap<>());
+            }
+            this.width = width;
+            this.clock = clock;
+            this.epoch = Math.floorDiv(clock.getAsLong(), width);
+        }
+
+        @Override
+        void record(String word) {
+            bucket(epoch).computeIfAbsent(word, k -> new long[1])[0]++;
+        }
+
+        @Override
+        void advance() {
+            long now = Math.floorDiv(clock.getAsLong(), width);
+            // after a gap longer than the window every bucket is stale; clearing each once is enough
+            for (long e = Math.max(epoch + 1, now - buckets.size() + 1); e <= now; e++) {
+                Map<String, long[]> stale = bucket(e);
+                stale.forEach((word, count) -> expire(word, count[0]));
+                stale.clear();
+            }
+            epoch = Math.max(epoch, now);
+        }
+
+        private Map<String, long[]> bucket(long e) {
+            return buckets.get((int) Math.floorMod(e, (long) buckets.size()));
+        }
+    }
+    // endregion
+}
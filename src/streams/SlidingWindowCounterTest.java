@@ -0,0 +1,78 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCounterTest {
+    // region Fields
+    List<String> states;
+    AtomicLong nanos;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        states = List.of("California", "Alabama", "Texas", "California", "Nevada", "Texas", "Louisiana", "Texas");
+        nanos = new AtomicLong();
+    }
+
+    @Test
+    @DisplayName("Window over all events equals the count of each state ...")
+    void lastEvents_wholeFeedMatchesCounts() {
+        // given
+        SlidingWindowCounter counter = SlidingWindowCounter.lastEvents(100);
+        // when
+        counter.addAll(states);
+        // then
+        assertEquals(3L, counter.counts().get("Texas"));
+        assertEquals(3, counter.countsBasic().get("Texas"));
+        assertEquals(8L, counter.size());
+    }
+
+    @Test
+    @DisplayName("Only the last N events are counted ...")
+    void lastEvents_expiresOldestEvents() {
+        // given
+        SlidingWindowCounter counter = SlidingWindowCounter.lastEvents(3);
+        // when
+        counter.addAll(states);
+        // then  (window holds Texas, Louisiana, Texas)
+        assertEquals(2L, counter.get("Texas"));
+        assertEquals(1L, counter.get("Louisiana"));
+        assertEquals(0L, counter.get("California"));
+        assertEquals(Set.of("Texas", "Louisiana"), counter.counts().keySet());
+    }
+
+    @Test
+    @DisplayName("Only events of the last T are counted ...")
+    void lastDuration_expiresWholeBuckets() {
+        // given
+        SlidingWindowCounter counter = SlidingWindowCounter.lastDuration(Duration.ofSeconds(10), 10, nanos::get);
+        // when
+        counter.add("Texas");
+        nanos.set(Duration.ofSeconds(5).toNanos());
+        counter.add("Texas");
+        counter.add("Nevada");
+        // then
+        assertEquals(2L, counter.get("Texas"));
+        // when
+        nanos.set(Duration.ofSeconds(10).toNanos());
+        // then
+        assertEquals(1L, counter.get("Texas"));
+        assertEquals(1L, counter.get("Nevada"));
+        // when
+        nanos.set(Duration.ofSeconds(100).toNanos());
+        // then
+        assertEquals(0L, counter.size());
+        assertTrue(counter.counts().isEmpty());
+        counter.add("Alabama");
+        assertEquals(Map.of("Alabama", 1), counter.countsBasic());
+    }
+}
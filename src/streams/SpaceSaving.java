@@ -0,0 +1,155 @@
+package streams;
+
+import java.util.*;
+
+/**
+ * The Space-Saving summary: tracks the most frequent words of a stream with a fixed number of counters.
+ * <p>
+ * While fewer than {@code capacity} words are tracked every word gets its own exact counter. After that a new
+ * word takes over the counter of the currently least frequent word and inherits its count, recording that
+ * count as its possible overestimate. Any word occurring more than {@code total / capacity} times is
+ * guaranteed to be tracked, and a tracked count is never below the true count nor above it by more than
+ * its recorded error.
+ * <p>
+ * Not thread-safe; fill one summary per thread and {@link #merge(SpaceSaving) merge} them.
+ */
+public class SpaceSaving {
+
+    /** A tracked word; ordered by count, then by insertion so equal counts stay distinct in the tree. */
+    private static final class Counter {
+        final String word;
+        long count;
+        long error;
+        long sequence;
+
+        Counter(String word, long count, long error) {
+            this.word = word;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    private static final Comparator<Counter> BY_COUNT =
+            Comparator.<Counter>comparingLong(c -> c.count).thenComparingLong(c -> c.sequence);
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+    private long sequence;
+    private long total;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.capacity = capacity;
+    }
+
+    public void add(String word) {
+        add(word, 1);
+    }
+
+    public void add(String word, long count) {
+        total += count;
+        Counter counter = counters.get(word);
+        if (counter != null) {
+            reposition(counter, counter.count + count);
+            return;
+        }
+        if (counters.size() < capacity) {
+            insert(new Counter(word, count, 0));
+            return;
+        }
+        Counter evicted = byCount.pollFirst();
+        counters.remove(evicted.word);
+        insert(new Counter(word, evicted.count + count, evicted.count));
+    }
+
+    /**
+     * Merges {@code other} into this summary: counts of words tracked by both are summed, a word tracked by only
+     * one summary is credited with the other's {@link #minCount() minimum count} as both count and error (it may
+     * have been evicted there with up to that many occurrences), and the {@code capacity} largest are kept.
+     */
+    public SpaceSaving merge(SpaceSaving other) {
+        long mine = minCount();
+        long theirs = other.minCount();
+        Map<String, Counter> merged = new HashMap<>();
+        for (Counter counter : counters.values()) {
+            Counter match = other.counters.get(counter.word);
+            merged.put(counter.word, match == null
+                    ? new Counter(counter.word, counter.count + theirs, counter.error + theirs)
+                    : new Counter(counter.word, counter.count + match.count, counter.error + match.error));
+        }
+        for (Counter counter : other.counters.values()) {
+            if (!counters.containsKey(counter.word)) {
+                merged.put(counter.word, new Counter(counter.word, counter.count + mine, counter.error + mine));
+            }
+        }
+        counters.clear();
+        byCount.clear();
+        merged.values().stream()
+                .sorted(Comparator.comparingLong((Counter c) -> c.count).reversed())
+                .limit(capacity)
+                .forEach(this::insert);
+        total += other.total;
+        return this;
+    }
+
+    /**
+     * @return the smallest tracked count once the summary is full, else 0: an upper bound on the count of any
+     * word that is not tracked
+     */
+    public long minCount() {
+        return counters.size() < capacity ? 0 : byCount.first().count;
+    }
+
+    /**
+     * @return up to {@code k} tracked words with their counts, most frequent first
+     */
+    public List<Map.Entry<String, Long>> top(int k) {
+        List<Map.Entry<String, Long>> top = new ArrayList<>(Math.min(k, counters.size()));
+        for (Iterator<Counter> it = byCount.descendingIterator(); it.hasNext() && top.size() < k; ) {
+            Counter counter = it.next();
+            top.add(Map.entry(counter.word, counter.count));
+        }
+        return top;
+    }
+
+    /**
+     * @return the tracked count of {@code word}, or 0 if it is not tracked
+     */
+    public long count(String word) {
+        Counter counter = counters.get(word);
+        return counter == null ? 0 : counter.count;
+    }
+
+    /**
+     * @return how much {@link #count(String)} may exceed the true count of {@code word}
+     */
+    public long error(String word) {
+        Counter counter = counters.get(word);
+        return counter == null ? 0 : counter.error;
+    }
+
+    public Set<String> tracked() {
+        return Collections.unmodifiableSet(counters.keySet());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    private void insert(Counter counter) {
+        counter.sequence = sequence++;
+        counters.put(counter.word, counter);
+        byCount.add(counter);
+    }
+
+    private void reposition(Counter counter, long count) {
+        byCount.remove(counter);
+        counter.count = count;
+        byCount.add(counter);
+    }
+}
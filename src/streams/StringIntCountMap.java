@@ -0,0 +1,194 @@
+package streams;
+
+import java.util.*;
+
+/**
+ * A counting map from {@code String} to primitive {@code int}.
+ * <p>
+ * Keys, their cached hash codes and their counts live in three parallel arrays probed linearly
+ * (open addressing), so an update allocates nothing and there is no node object per entry.
+ * {@link #asMap()} exposes the counts as the read-only {@code Map<String, Integer>} that
+ * {@link UsingStreams#getCountsBasic(List)} returns; only entries read through the view are boxed.
+ * <p>
+ * Not thread-safe.
+ */
+public class StringIntCountMap {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] keys;
+    private int[] hashes;
+    private int[] values;
+    private int size;
+    private int resizeAt;
+
+    public StringIntCountMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * @param expectedKeys number of distinct keys to size the table for without rehashing
+     */
+    public StringIntCountMap(int expectedKeys) {
+        allocate(tableSizeFor(expectedKeys));
+    }
+
+    /**
+     * Counts each distinct word, equivalent to {@link UsingStreams#getCountsBasic(List)}.
+     */
+    public static StringIntCountMap countOf(List<String> words) {
+        StringIntCountMap counts = new StringIntCountMap();
+        for (String word : words) {
+            counts.increment(word);
+        }
+        return counts;
+    }
+
+    public void increment(String key) {
+        add(key, 1);
+    }
+
+    /**
+     * @return the count of {@code key} after adding {@code delta}
+     */
+    public int add(String key, int delta) {
+        int hash = spread(key.hashCode());
+        int mask = keys.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            String k = keys[i];
+            if (k == null) {
+                keys[i] = key;
+                hashes[i] = hash;
+                values[i] = delta;
+                if (++size > resizeAt) rehash(keys.length * 2);
+                return delta;
+            }
+            if (hashes[i] == hash && (k == key || k.equals(key))) {
+                return values[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * @return the count of {@code key}, or 0 if it was never added
+     */
+    public int get(String key) {
+        int slot = slotOf(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    public boolean containsKey(String key) {
+        return slotOf(key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a read-only live view of the counts
+     */
+    public Map<String, Integer> asMap() {
+        return new MapView();
+    }
+
+    // region Table management
+    private int slotOf(Object key) {
+        if (!(key instanceof String)) return -1;
+        int hash = spread(key.hashCode());
+        int mask = keys.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            String k = keys[i];
+            if (k == null) return -1;
+            if (hashes[i] == hash && (k == key || k.equals(key))) return i;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        hashes = new int[capacity];
+        values = new int[capacity];
+        resizeAt = capacity / 4 * 3;
+    }
+
+    private void rehash(int capacity) {
+        String[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        int[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == null) continue;
+            int i = oldHashes[j] & mask;
+            while (keys[i] != null) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            hashes[i] = oldHashes[j];
+            values[i] = oldValues[j];
+        }
+    }
+
+    private static int tableSizeFor(int expectedKeys) {
+        int needed = (int) Math.min(1 << 30, (long) expectedKeys * 4 / 3 + 1);
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    /** Mixes the high bits in, linear probing is sensitive to clustered low bits. */
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    // endregion
+
+    private final class MapView extends AbstractMap<String, Integer> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return slotOf(key) >= 0;
+        }
+
+        @Override
+        public Integer get(Object key) {
+            int slot = slotOf(key);
+            return slot < 0 ? null : values[slot];
+        }
+
+        @Override
+        public Set<Entry<String, Integer>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public Iterator<Entry<String, Integer>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < keys.length && keys[from] == null) from++;
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < keys.length;
+                        }
+
+                        @Override
+                        public Entry<String, Integer> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            Entry<String, Integer> entry = new SimpleImmutableEntry<>(keys[next], values[next]);
+                            next = advance(next + 1);
+                            return entry;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringIntCountMapTest {
+    // region Fields
+    List<String> states;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        states = List.of("California", "Alabama", "Texas", "California", "Nevada", "Texas", "Louisiana", "Texas");
+    }
+
+    @Test
+    @DisplayName("Return the count of each state ...")
+    void countOf_returnCountOfEachState() {
+        // when
+        StringIntCountMap counts = StringIntCountMap.countOf(states);
+        // then
+        assertEquals(3, counts.get("Texas"));
+        assertEquals(0, counts.get("Ohio"));
+        assertEquals(5, counts.size());
+    }
+
+    @Test
+    @DisplayName("Map view matches a HashMap count ...")
+    void asMap_equalsHashMapCount() {
+        // given
+        Map<String, Integer> expected = new HashMap<>();
+        states.forEach(state -> expected.merge(state, 1, Integer::sum));
+        // when
+        Map<String, Integer> actual = StringIntCountMap.countOf(states).asMap();
+        // then
+        assertEquals(expected, actual);
+        assertEquals(3, actual.get("Texas"));
+        assertNull(actual.get("Ohio"));
+        assertThrows(UnsupportedOperationException.class, () -> actual.put("Ohio", 1));
+    }
+
+    @Test
+    @DisplayName("Counts survive growing the table ...")
+    void add_manyKeysRehash() {
+        // given
+        StringIntCountMap counts = new StringIntCountMap();
+        // when
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10_000; i++) counts.increment("word" + i);
+        }
+        // then
+        assertEquals(10_000, counts.size());
+        assertEquals(3, counts.get("word9999"));
+        assertEquals(30_000, counts.asMap().values().stream().mapToInt(Integer::intValue).sum());
+    }
+}
@@ -0,0 +1,212 @@
+package streams;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A string-specialized sort producing exactly the order of {@link UsingStreams#getWordsSortedInNaturalOrder(List)},
+ * i.e. {@link String#compareTo(String)} order by UTF-16 code unit.
+ * <p>
+ * Words are sorted by multikey (three-way radix) quicksort: each partitioning step looks at one character
+ * position only, so a shared prefix is read once per level instead of once per comparison. Small ranges
+ * finish with an insertion sort that compares from the current position onwards, and ranges whose pivots
+ * keep degenerating fall back to a comparison sort from that position. {@link #parallelSort(String[])}
+ * forks the three partitions of large ranges onto the common pool.
+ * <p>
+ * A single pass first counts descending steps: sorted input returns at once, reversed input is reversed, and
+ * input made of a few ascending runs goes to {@link Arrays#sort(Object[])}, whose merge sort exploits them.
+ */
+public final class StringSort {
+
+    static final int INSERTION_THRESHOLD = 12;
+    static final int PARALLEL_THRESHOLD = 8192;
+    /** Inputs with at most this many ascending runs are left to the run-merging JDK sort. */
+    static final int NEARLY_SORTED_RUNS = 64;
+
+    private StringSort() {
+    }
+
+    // region Public entry points
+    /**
+     * @see UsingStreams#getWordsSortedInNaturalOrder(List)
+     */
+    public static List<String> sorted(List<String> words) {
+        String[] array = words.toArray(new String[0]);
+        sort(array);
+        return Arrays.asList(array);
+    }
+
+    public static List<String> parallelSorted(List<String> words) {
+        String[] array = words.toArray(new String[0]);
+        parallelSort(array);
+        return Arrays.asList(array);
+    }
+
+    public static void sort(String[] words) {
+        if (presorted(words)) return;
+        sort(words, 0, words.length - 1, 0, depthLimit(words.length));
+    }
+
+    public static void parallelSort(String[] words) {
+        if (presorted(words)) return;
+        if (words.length <= PARALLEL_THRESHOLD) {
+            sort(words, 0, words.length - 1, 0, depthLimit(words.length));
+        } else {
+            ForkJoinPool.commonPool().invoke(new SortTask(words, 0, words.length - 1, 0, depthLimit(words.length)));
+        }
+    }
+    // endregion
+
+    /**
+     * Handles sorted, reversed and nearly sorted input.
+     *
+     * @return whether {@code words} is now sorted
+     */
+    static boolean presorted(String[] words) {
+        int descents = 0;
+        int ascents = 0;
+        for (int i = 1; i < words.length; i++) {
+            int c = words[i - 1].compareTo(words[i]);
+            if (c > 0) descents++;
+            else if (c < 0) ascents++;
+        }
+        if (descents == 0) return true;
+        if (ascents == 0) {
+            Collections.reverse(Arrays.asList(words));
+            return true;
+        }
+        if (descents < NEARLY_SORTED_RUNS) {
+            Arrays.sort(words);
+            return true;
+        }
+        return false;
+    }
+
+    // region Multikey quicksort
+    /** Sorts {@code words[lo..hi]}, all of which share their first {@code d} characters. */
+    private static void sort(String[] words, int lo, int hi, int d, int depthBudget) {
+        while (hi - lo >= INSERTION_THRESHOLD) {
+            if (depthBudget-- == 0) {
+                comparisonSort(words, lo, hi, d);
+                return;
+            }
+            long bounds = partition(words, lo, hi, d);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+            sort(words, lo, lt - 1, d, depthBudget);
+            sort(words, gt + 1, hi, d, depthBudget);
+            // the middle partition shares one more character, unless it is the words ending at d
+            if (charAt(words[lt], d) < 0) return;
+            lo = lt;
+            hi = gt;
+            d++;
+        }
+        insertionSort(words, lo, hi, d);
+    }
+
+    /**
+     * Three-way partitions {@code words[lo..hi]} on the character at {@code d} around a median-of-three pivot.
+     *
+     * @return the bounds {@code lt} (high half) and {@code gt} (low half) of the range equal to the pivot
+     */
+    private static long partition(String[] words, int lo, int hi, int d) {
+        swap(words, lo, medianOfThree(words, lo, lo + (hi - lo) / 2, hi, d));
+        int pivot = charAt(words[lo], d);
+        int lt = lo;
+        int gt = hi;
+        int i = lo + 1;
+        while (i <= gt) {
+            int c = charAt(words[i], d);
+            if (c < pivot) swap(words, lt++, i++);
+            else if (c > pivot) swap(words, i, gt--);
+            else i++;
+        }
+        return ((long) lt << 32) | (gt & 0xffffffffL);
+    }
+
+    private static int medianOfThree(String[] words, int a, int b, int c, int d) {
+        int ca = charAt(words[a], d);
+        int cb = charAt(words[b], d);
+        int cc = charAt(words[c], d);
+        if (ca < cb) return cb < cc ? b : ca < cc ? c : a;
+        return ca < cc ? a : cb < cc ? c : b;
+    }
+
+    private static void insertionSort(String[] words, int lo, int hi, int d) {
+        for (int i = lo + 1; i <= hi; i++) {
+            String word = words[i];
+            int j = i;
+            while (j > lo && compareFrom(words[j - 1], word, d) > 0) {
+                words[j] = words[j - 1];
+                j--;
+            }
+            words[j] = word;
+        }
+    }
+
+    private static void comparisonSort(String[] words, int lo, int hi, int d) {
+        Arrays.sort(words, lo, hi + 1, (x, y) -> compareFrom(x, y, d));
+    }
+
+    /** {@link String#compareTo(String)} for two words known to share their first {@code d} characters. */
+    private static int compareFrom(String x, String y, int d) {
+        int end = Math.min(x.length(), y.length());
+        for (int i = d; i < end; i++) {
+            int c = x.charAt(i) - y.charAt(i);
+            if (c != 0) return c;
+        }
+        return x.length() - y.length();
+    }
+
+    private static int charAt(String word, int d) {
+        return d < word.length() ? word.charAt(d) : -1;
+    }
+
+    private static void swap(String[] words, int i, int j) {
+        String t = words[i];
+        words[i] = words[j];
+        words[j] = t;
+    }
+
+    /** About twice the depth a balanced partitioning would need, plus room for long shared prefixes. */
+    private static int depthLimit(int n) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(n)) + 64;
+    }
+    // endregion
+
+    /** Parallel multikey quicksort: partitions sequentially and forks the partitions that are still large. */
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] words;
+        private final int lo;
+        private final int hi;
+        private final int d;
+        private final int depthBudget;
+
+        SortTask(String[] words, int lo, int hi, int d, int depthBudget) {
+            this.words = words;
+            this.lo = lo;
+            this.hi = hi;
+            this.d = d;
+            this.depthBudget = depthBudget;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_THRESHOLD || depthBudget == 0) {
+                sort(words, lo, hi, d, depthBudget);
+                return;
+            }
+            long bounds = partition(words, lo, hi, d);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+            List<SortTask> parts = new ArrayList<>(3);
+            parts.add(new SortTask(words, lo, lt - 1, d, depthBudget - 1));
+            parts.add(new SortTask(words, gt + 1, hi, d, depthBudget - 1));
+            if (charAt(words[lt], d) >= 0) parts.add(new SortTask(words, lt, gt, d + 1, depthBudget - 1));
+            invokeAll(parts);
+        }
+    }
+}
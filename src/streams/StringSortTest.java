@@ -0,0 +1,95 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringSortTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    private static List<String> jdkSorted(List<String> words) {
+        List<String> sorted = new ArrayList<>(words);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Test
+    @DisplayName("Return words sorted in natural order ...")
+    void sorted_returnWordsSortedInNaturalOrder() {
+        // given
+        List<String> expected = Arrays.asList("apple", "apple", "banana", "grape", "kiwi", "orange", "pear");
+        // then
+        assertEquals(expected, StringSort.sorted(words));
+        assertEquals(expected, UsingStreams.getWordsSortedInNaturalOrderInParallel(words));
+        assertEquals(List.of(), StringSort.sorted(List.of()));
+    }
+
+    @Test
+    @DisplayName("Prefixes, empty words and non-ASCII sort by UTF-16 code unit ...")
+    void sorted_matchesCompareToOnTrickyWords() {
+        // given
+        List<String> tricky = new ArrayList<>();
+        String[] parts = {"", "a", "ab", "abc", "A", "Z", "é", "￿", "ä", "😀", "a\u0000"};
+        for (String x : parts) for (String y : parts) tricky.add(x + y);
+        Collections.shuffle(tricky, new Random(1));
+        // then
+        assertEquals(jdkSorted(tricky), StringSort.sorted(tricky));
+    }
+
+    @Test
+    @DisplayName("Large corpora match the JDK sort, sequentially and in parallel ...")
+    void sorted_largeCorporaMatchJdkSort() {
+        for (UsingStreamsBenchmark.LengthDistribution lengths : UsingStreamsBenchmark.LengthDistribution.values()) {
+            // given
+            List<String> many = UsingStreamsBenchmark.generate(100_000, lengths, 0.5, 11);
+            List<String> expected = jdkSorted(many);
+            // then
+            assertEquals(expected, StringSort.sorted(many), lengths.name());
+            assertEquals(expected, StringSort.parallelSorted(many), lengths.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Long shared prefixes fall back to comparison sorting correctly ...")
+    void sorted_longSharedPrefixes() {
+        // given
+        String prefix = "x".repeat(200);
+        List<String> many = new ArrayList<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20_000; i++) many.add(prefix + random.nextInt(1000));
+        // then
+        assertEquals(jdkSorted(many), StringSort.parallelSorted(many));
+    }
+
+    @Test
+    @DisplayName("Sorted, reversed and nearly sorted input is detected ...")
+    void presorted_detectsCheapCases() {
+        // given
+        List<String> sorted = jdkSorted(UsingStreamsBenchmark.generate(10_000, UsingStreamsBenchmark.LengthDistribution.UNIFORM, 0.3, 2));
+        String[] reversed = sorted.toArray(new String[0]);
+        Collections.reverse(Arrays.asList(reversed));
+        String[] nearly = sorted.toArray(new String[0]);
+        for (int i = 0; i < 10; i++) Collections.swap(Arrays.asList(nearly), i * 997, i * 997 + 500);
+        String[] shuffled = sorted.toArray(new String[0]);
+        Collections.shuffle(Arrays.asList(shuffled), new Random(3));
+        // then
+        assertTrue(StringSort.presorted(sorted.toArray(new String[0])));
+        assertTrue(StringSort.presorted(reversed));
+        assertEquals(sorted, Arrays.asList(reversed));
+        assertTrue(StringSort.presorted(nearly));
+        assertEquals(sorted, Arrays.asList(nearly));
+        assertFalse(StringSort.presorted(shuffled));
+    }
+}
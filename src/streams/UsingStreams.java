@@ -1,8 +1,13 @@
 package streams;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class UsingStreams {
 
@@ -217,6 +222,274 @@ public class UsingStreams {
     }
     // endregion
 
+    // region Corpus methods
+    // Overloads of the tested methods for a columnar WordCorpus. They scan by index and only create a
+    // String for words that end up in the result.
+    public static Long getWordCount(WordCorpus corpus) {
+        return (long) corpus.size();
+    }
+
+    public static ConcurrentMap<Object, Long> getCounts(WordCorpus corpus) {
+        CorpusCounts counts = CorpusCounts.of(corpus);
+        ConcurrentMap<Object, Long> result = new ConcurrentHashMap<>(Math.max(16, counts.size * 4 / 3 + 1));
+        for (int i = 0; i < counts.size; i++) {
+            result.put(corpus.word(counts.representatives[i]), counts.counts[i]);
+        }
+        return result;
+    }
+
+    public static Map<String, Integer> getCountsBasic(WordCorpus corpus) {
+        CorpusCounts counts = CorpusCounts.of(corpus);
+        StringIntCountMap result = new StringIntCountMap(counts.size);
+        for (int i = 0; i < counts.size; i++) {
+            result.add(corpus.word(counts.representatives[i]), Math.toIntExact(counts.counts[i]));
+        }
+        return result.asMap();
+    }
+
+    public static boolean checkIfStartsWith(WordCorpus corpus, String start) {
+        return indexes(corpus).anyMatch(corpus.startingWith(start));
+    }
+
+    public static String findFirstStartsWith(WordCorpus corpus, String start) {
+        return indexes(corpus).filter(corpus.startingWith(start)).mapToObj(corpus::word).findFirst().orElse(null);
+    }
+
+    public static long countWordsStartingWith(WordCorpus corpus, String start) {
+        return indexes(corpus).filter(corpus.startingWith(start)).count();
+    }
+
+    public static boolean noWordsStartWith(WordCorpus corpus, String start) {
+        return indexes(corpus).noneMatch(corpus.startingWith(start));
+    }
+
+    public static int findIndexOfFirstWordStartingWith(WordCorpus corpus, String start) {
+        return indexes(corpus).filter(corpus.startingWith(start)).findFirst().orElse(-1);
+    }
+
+    public static int findIndexOfLastWordStartingWith(WordCorpus corpus, String start) {
+        return indexes(corpus).map(i -> corpus.size() - 1 - i).filter(corpus.startingWith(start)).findFirst().orElse(-1);
+    }
+
+    public static List<String> findWordsWithLengthOf(WordCorpus corpus, int length) {
+        return indexes(corpus).filter(i -> corpus.length(i) == length).mapToObj(corpus::word).toList();
+    }
+
+    public static List<String> findWordsContaining(WordCorpus corpus, String letter) {
+        return indexes(corpus).filter(corpus.containing(letter)).mapToObj(corpus::word).toList();
+    }
+
+    public static List<String> removeWordsContainingTheLetter(WordCorpus corpus, String letter) {
+        return indexes(corpus).filter(corpus.containing(letter).negate()).mapToObj(corpus::word).toList();
+    }
+
+    public static List<Integer> getListOfWordLengths(WordCorpus corpus) {
+        return indexes(corpus).map(corpus::length).boxed().toList();
+    }
+
+    public static long countDistinctLengths(WordCorpus corpus) {
+        return indexes(corpus).map(corpus::length).distinct().count();
+    }
+
+    public static int findMaxWordLength(WordCorpus corpus) {
+        return indexes(corpus).map(corpus::length).max().orElse(0);
+    }
+
+    public static int findMinWordLength(WordCorpus corpus) {
+        return indexes(corpus).map(corpus::length).min().orElse(0);
+    }
+
+    public static int calculateTotalLengthofAllWords(WordCorpus corpus) {
+        return indexes(corpus).map(corpus::length).sum();
+    }
+
+    public static double getAverageLength(WordCorpus corpus) {
+        return indexes(corpus).map(corpus::length).average().orElse(0.0);
+    }
+
+    public static Map<Integer, List<String>> groupWordsByLength(WordCorpus corpus) {
+        return indexes(corpus).boxed()
+                .collect(Collectors.groupingBy(corpus::length, Collectors.mapping(corpus::word, Collectors.toList())));
+    }
+
+    public static String findTheLongestWord(WordCorpus corpus) {
+        int longest = -1;
+        for (int i = 0; i < corpus.size(); i++) {
+            if (longest < 0 || corpus.length(i) > corpus.length(longest)) longest = i;
+        }
+        return longest < 0 ? null : corpus.word(longest);
+    }
+
+    private static IntStream indexes(WordCorpus corpus) {
+        return IntStream.range(0, corpus.size());
+    }
+    // endregion
+
+    // region Parallel methods
+    // Parallel versions of the order-sensitive tested methods. The first few stream through WordSpliterator,
+    // which splits evenly whatever List implementation the words come in; sorting, grouping and distinct
+    // letters copy the words to an array and fork over it in StringSort, LengthBuckets and DistinctLetters.
+    public static String findFirstStartsWithInParallel(List<String> words, String start) {
+        return WordSpliterator.stream(words, true).filter(word -> word.startsWith(start)).findFirst().orElse(null);
+    }
+
+    public static List<String> findFirstThreeWordsInParallel(List<String> words) {
+        return WordSpliterator.stream(words, true).limit(3).toList();
+    }
+
+    public static List<String> getWordsSkippingFirstFewInParallel(List<String> words, int count) {
+        return WordSpliterator.stream(words, true).skip(count).toList();
+    }
+
+    public static List<String> getWordsSortedInNaturalOrderInParallel(List<String> words) {
+        return StringSort.parallelSorted(words);
+    }
+
+    public static Map<Integer, List<String>> groupWordsByLengthInParallel(List<String> words) {
+        return LengthBuckets.ofParallel(words).asMap();
+    }
+
+    public static String concatenateDistinctLettersInParallel(List<String> words) {
+        return DistinctLetters.ofParallel(words).concatenate();
+    }
+
+    public static List<String> findDistinctLettersFromWordsInParallel(List<String> words) {
+        return DistinctLetters.ofParallel(words).asList();
+    }
+    // endregion
+
+    // region Lazy methods
+    // Lazy counterparts of the list-returning filters. Nothing is traversed until the result is consumed, and a
+    // consumer that stops early (limit, findFirst, breaking out of a loop) stops the scan with it.
+    public static Stream<String> streamWordsThatStartWithA(List<String> words) {
+        return words.stream().filter(word -> word.startsWith("a"));
+    }
+
+    public static Stream<String> streamWordsWithLengthOf(List<String> words, int length) {
+        return words.stream().filter(word -> word.length() == length);
+    }
+
+    public static Stream<String> streamWordsContaining(List<String> words, String letter) {
+        return words.stream().filter(word -> word.contains(letter));
+    }
+
+    public static Stream<String> streamWordsNotContaining(List<String> words, String letter) {
+        return words.stream().filter(word -> !word.contains(letter));
+    }
+
+    public static Stream<String> streamWordsSkippingFirstFew(List<String> words, int count) {
+        return words.stream().skip(count);
+    }
+
+    public static Iterator<String> iterateWordsThatStartWithA(List<String> words) {
+        return lazyFilter(words.iterator(), word -> word.startsWith("a"));
+    }
+
+    public static Iterator<String> iterateWordsWithLengthOf(List<String> words, int length) {
+        return lazyFilter(words.iterator(), word -> word.length() == length);
+    }
+
+    public static Iterator<String> iterateWordsContaining(List<String> words, String letter) {
+        return lazyFilter(words.iterator(), word -> word.contains(letter));
+    }
+
+    public static Iterator<String> iterateWordsNotContaining(List<String> words, String letter) {
+        return lazyFilter(words.iterator(), word -> !word.contains(letter));
+    }
+
+    public static Iterator<String> iterateWordsSkippingFirstFew(List<String> words, int count) {
+        // the same failure as Stream.skip gives the stream variant, rather than one from subList
+        if (count < 0) throw new IllegalArgumentException("count must not be negative: " + count);
+        return words.subList(Math.min(count, words.size()), words.size()).iterator();
+    }
+
+    private static Iterator<String> lazyFilter(Iterator<String> source, Predicate<String> keep) {
+        return new Iterator<>() {
+            private String next;
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && source.hasNext()) {
+                    String candidate = source.next();
+                    if (keep.test(candidate)) {
+                        next = candidate;
+                        ready = true;
+                    }
+                }
+                return ready;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                ready = false;
+                return next;
+            }
+        };
+    }
+    // endregion
+
+    // region Pooled methods
+    // Overloads of the tested methods that canonicalize the words through a WordPool first, so repeated words in
+    // the input and every result share one String instance.
+    public static List<String> getWordsWithoutDuplicates(List<String> words, WordPool pool) {
+        return new ArrayList<>(new LinkedHashSet<>(pool.internAll(words)));
+    }
+
+    public static Set<String> convertListOfWordsToSet(List<String> words, WordPool pool) {
+        return new HashSet<>(pool.internAll(words));
+    }
+
+    public static Map<Integer, List<String>> groupWordsByLength(List<String> words, WordPool pool) {
+        return pool.internAll(words).stream().collect(Collectors.groupingBy(String::length));
+    }
+
+    public static ConcurrentMap<Object, Long> getCounts(List<String> states, WordPool pool) {
+        return CountingEngine.countOf(pool.internAll(states));
+    }
+    // endregion
+
+    // region Approximate methods
+    // Distinct counts estimated with a HyperLogLog sketch instead of a full set of the words; see HyperLogLog for
+    // the error at each precision.
+    public static long estimateDistinctWords(List<String> words) {
+        return estimateDistinctWords(words, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    public static long estimateDistinctWords(List<String> words, int precision) {
+        return HyperLogLog.estimateDistinct(words, precision);
+    }
+    // endregion
+
+    // region External methods
+    // Sorting and deduplication that spill to temporary files once the words exceed memoryBudget bytes; close the
+    // returned stream to delete them. See ExternalSort.
+    public static Stream<String> getWordsWithoutDuplicates(Stream<String> words, long memoryBudget) {
+        return new ExternalSort(memoryBudget).withoutDuplicates(words);
+    }
+
+    public static Stream<String> getWordsSortedInNaturalOrder(Stream<String> words, long memoryBudget) {
+        return new ExternalSort(memoryBudget).sorted(words);
+    }
+    // endregion
+
+    // region Streaming methods
+    // Joining methods that write to a Writer or other Appendable through a bounded buffer instead of building one
+    // String; see WordJoiner, which also writes UTF-8 to channels and joins into presized Strings.
+    public static void getCommaSeparatedString(List<String> words, Appendable out) throws IOException {
+        WordJoiner.commaSeparated().writeTo(words, out);
+    }
+
+    public static void concatenateWithHyphen(List<String> words, Appendable out) throws IOException {
+        WordJoiner.hyphenSeparated().writeTo(words, out);
+    }
+
+    public static void uppercaseConcatenated(List<String> words, Appendable out) throws IOException {
+        WordJoiner.upperCaseConcatenated().writeTo(words, out);
+    }
+    // endregion
+
     /// ----------------------------------------------
     ///                Tests start here!!!
     /// ----------------------------------------------
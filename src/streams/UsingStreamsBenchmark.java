@@ -0,0 +1,411 @@
+package streams;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.Channels;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Throughput and allocation harness for every public method of {@link UsingStreams}, including its overloads for
+ * {@link WordCorpus}, {@link WordPool}, external {@code Stream}s and {@code Appendable}s (but not the
+ * {@code test*} stubs), and for the alternative engines behind them.
+ * <p>
+ * Each operation is run against generated corpora, parameterized over corpus size,
+ * word-length distribution and duplicate ratio, and reported as ops/s and bytes
+ * allocated per op (summed over all live threads, including fork/join workers; other activity in the JVM,
+ * such as JIT compiler threads, adds some noise).
+ * <p>
+ * Options (all optional):
+ * <pre>
+ *   --sizes=10,1000,100000        corpus sizes in words (10 .. 100000000)
+ *   --lengths=FIXTURE,UNIFORM     word-length distributions, see {@link LengthDistribution}
+ *   --duplicates=0.0,0.5,0.9      fraction of words repeated from earlier in the corpus
+ *   --ops=regex                   only run operations whose name matches
+ *   --warmup=200 --measure=500    milliseconds per operation and parameter set
+ *   --topk=10                     also report {@link HeavyHitters} accuracy against the exact counts
+ * </pre>
+ */
+public class UsingStreamsBenchmark {
+
+    // region Fixtures
+    /** The same words {@code UsingStreamsTest} works on. */
+    static final List<String> FIXTURE_WORDS = List.of("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    static final List<String> FIXTURE_STATES = List.of("California", "Alabama", "Texas", "California", "Nevada", "Texas", "Louisiana", "Texas");
+    static final String[] FIXTURE_PHRASE = {"the", "quick", "brown", "fox"};
+    // endregion
+
+    /** Budget for the external sort operations, so the larger corpora spill to temporary files. */
+    static final long EXTERNAL_MEMORY_BUDGET = 64L << 20;
+
+    public enum LengthDistribution {
+        /** Words drawn from the test fixtures, so lengths stay between 3 and 10. */
+        FIXTURE,
+        /** Random lowercase words with lengths uniform in [1, 12]. */
+        UNIFORM,
+        /** Random lowercase words with mostly short lengths and a long tail up to 32. */
+        SKEWED
+    }
+
+    /** A generated corpus together with the arguments the operations need. */
+    static final class Workload {
+        final List<String> words;
+        final String[] array;
+        final String prefix;
+        final String letter;
+        private WordCorpus corpus;
+        private WordPool pool;
+
+        Workload(List<String> words) {
+            this.words = words;
+            this.array = words.toArray(new String[0]);
+            this.prefix = words.isEmpty() ? "a" : words.get(words.size() / 2).substring(0, 1);
+            this.letter = "p";
+        }
+
+        /** Built on first use, so runs without corpus operations do not hold a columnar copy of the words. */
+        WordCorpus corpus() {
+            if (corpus == null) corpus = WordCorpus.of(words);
+            return corpus;
+        }
+
+        /** Shared by every pooled operation, so they measure a pool that has already seen the corpus. */
+        WordPool pool() {
+            if (pool == null) pool = new WordPool();
+            return pool;
+        }
+    }
+
+    static List<String> generate(int size, LengthDistribution distribution, double duplicateRatio, long seed) {
+        Random random = new Random(seed);
+        List<String> fixture = new ArrayList<>(FIXTURE_WORDS);
+        fixture.addAll(FIXTURE_STATES);
+        List<String> words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && random.nextDouble() < duplicateRatio) {
+                words.add(words.get(random.nextInt(i)));
+                continue;
+            }
+            switch (distribution) {
+                case FIXTURE -> words.add(fixture.get(random.nextInt(fixture.size())));
+                case UNIFORM -> words.add(randomWord(random, 1 + random.nextInt(12)));
+                case SKEWED -> words.add(randomWord(random, Math.min(32, 1 + (int) (-4 * Math.log(1 - random.nextDouble())))));
+            }
+        }
+        return words;
+    }
+
+    private static String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    static Map<String, Function<Workload, Object>> operations() {
+        Map<String, Function<Workload, Object>> ops = new LinkedHashMap<>();
+        ops.put("getUpperCase", w -> UsingStreams.getUpperCase(w.array));
+        ops.put("getCounts", w -> UsingStreams.getCounts(w.words));
+        ops.put("getCountsBasic", w -> UsingStreams.getCountsBasic(w.words));
+        ops.put("getWordsThatStartWithA", w -> UsingStreams.getWordsThatStartWithA(w.words));
+        ops.put("getWordsWithoutDuplicates", w -> UsingStreams.getWordsWithoutDuplicates(w.words));
+        ops.put("getWordsSortedInNaturalOrder", w -> UsingStreams.getWordsSortedInNaturalOrder(w.words));
+        ops.put("printWordsThenReturnAsUppercase", w -> UsingStreams.printWordsThenReturnAsUppercase(w.words));
+        ops.put("printEachWord", w -> {
+            UsingStreams.printEachWord(w.words);
+            return null;
+        });
+        ops.put("getCommaSeparatedString", w -> UsingStreams.getCommaSeparatedString(w.words));
+        ops.put("getWordCount", w -> UsingStreams.getWordCount(w.words));
+        ops.put("checkIfStartsWith", w -> UsingStreams.checkIfStartsWith(w.words, w.prefix));
+        ops.put("findFirstStartsWith", w -> UsingStreams.findFirstStartsWith(w.words, w.prefix));
+        ops.put("findAnyStartsWith", w -> UsingStreams.findAnyStartsWith(w.words, w.prefix));
+        ops.put("findWordsWithLengthOf", w -> UsingStreams.findWordsWithLengthOf(w.words, 5));
+        ops.put("getListOfWordLengths", w -> UsingStreams.getListOfWordLengths(w.words));
+        ops.put("countDistinctLengths", w -> UsingStreams.countDistinctLengths(w.words));
+        ops.put("concatenateWithHyphen", w -> UsingStreams.concatenateWithHyphen(w.words));
+        ops.put("uppercaseConcatenated", w -> UsingStreams.uppercaseConcatenated(w.words));
+        ops.put("hasWordsGreaterThan", w -> UsingStreams.hasWordsGreaterThan(w.words, 3));
+        ops.put("findMaxWordLength", w -> UsingStreams.findMaxWordLength(w.words));
+        ops.put("findMinWordLength", w -> UsingStreams.findMinWordLength(w.words));
+        ops.put("findWordsContaining", w -> UsingStreams.findWordsContaining(w.words, w.letter));
+        ops.put("countWordsStartingWith", w -> UsingStreams.countWordsStartingWith(w.words, w.prefix));
+        ops.put("groupWordsByLength", w -> UsingStreams.groupWordsByLength(w.words));
+        ops.put("calculateTotalLengthofAllWords", w -> UsingStreams.calculateTotalLengthofAllWords(w.words));
+        ops.put("calculateProductOfWordLengths", w -> UsingStreams.calculateProductOfWordLengths(w.words));
+        ops.put("noWordsStartWith", w -> UsingStreams.noWordsStartWith(w.words, w.prefix));
+        ops.put("findFirstThreeWords", w -> UsingStreams.findFirstThreeWords(w.words));
+        ops.put("getWordsSkippingFirstFew", w -> UsingStreams.getWordsSkippingFirstFew(w.words, 2));
+        ops.put("getAverageLength", w -> UsingStreams.getAverageLength(w.words));
+        ops.put("replaceOccurrencesWith", w -> UsingStreams.replaceOccurrencesWith(w.words, "a", "X"));
+        ops.put("allWordsUppercase", w -> UsingStreams.allWordsUppercase(w.words));
+        ops.put("concatenateDistinctLetters", w -> UsingStreams.concatenateDistinctLetters(w.words));
+        ops.put("convertListOfWordsToSet", w -> UsingStreams.convertListOfWordsToSet(w.words));
+        ops.put("printLengthsAndUppercaseForm", w -> UsingStreams.printLengthsAndUppercaseForm(w.words));
+        ops.put("findTheLongestWord", w -> UsingStreams.findTheLongestWord(w.words));
+        ops.put("findTheShortestWord", w -> UsingStreams.findTheShortestWord(w.words));
+        ops.put("reverseEachWord", w -> UsingStreams.reverseEachWord(w.words));
+        ops.put("allWordsEndWith", w -> UsingStreams.allWordsEndWith(w.words, "e"));
+        ops.put("removeWordsContainingTheLetter", w -> UsingStreams.removeWordsContainingTheLetter(w.words, w.letter));
+        ops.put("convertTheFirstLetterToUppercase", w -> UsingStreams.convertTheFirstLetterToUppercase(w.words));
+        ops.put("findIndexOfFirstWordStartingWith", w -> UsingStreams.findIndexOfFirstWordStartingWith(w.words, w.prefix));
+        ops.put("hasWordContainingDigit", w -> UsingStreams.hasWordContainingDigit(w.words));
+        ops.put("replaceVowelsInEachWordWith", w -> UsingStreams.replaceVowelsInEachWordWith(w.words, "X"));
+        ops.put("findDistinctLettersFromWords", w -> UsingStreams.findDistinctLettersFromWords(w.words));
+        ops.put("allWordsHaveAtLeastLengthOf", w -> UsingStreams.allWordsHaveAtLeastLengthOf(w.words, 3));
+        ops.put("hasAnyWordExactlyCharacters", w -> UsingStreams.hasAnyWordExactlyCharacters(w.words, 4));
+        ops.put("getTheSecondWord", w -> UsingStreams.getTheSecondWord(w.words));
+        ops.put("reverseAndCollectToSet", w -> UsingStreams.reverseAndCollectToSet(w.words));
+        ops.put("findIndexOfLastWordStartingWith", w -> UsingStreams.findIndexOfLastWordStartingWith(w.words, w.prefix));
+        ops.put("removeWordsContaining", w -> UsingStreams.removeWordsContaining(w.words, w.letter));
+        ops.put("hasNoWordMoreThan", w -> UsingStreams.hasNoWordMoreThan(w.words, 6));
+        // alternative engines, measured alongside the methods they stand in for
+        ops.put("CountingEngine.countOf", w -> CountingEngine.countOf(w.words));
+        ops.put("StringIntCountMap.countOf", w -> StringIntCountMap.countOf(w.words).asMap());
+        ops.put("getWordCount(WordCorpus)", w -> UsingStreams.getWordCount(w.corpus()));
+        ops.put("getCounts(WordCorpus)", w -> UsingStreams.getCounts(w.corpus()));
+        ops.put("getCountsBasic(WordCorpus)", w -> UsingStreams.getCountsBasic(w.corpus()));
+        ops.put("checkIfStartsWith(WordCorpus)", w -> UsingStreams.checkIfStartsWith(w.corpus(), w.prefix));
+        ops.put("findFirstStartsWith(WordCorpus)", w -> UsingStreams.findFirstStartsWith(w.corpus(), w.prefix));
+        ops.put("countWordsStartingWith(WordCorpus)", w -> UsingStreams.countWordsStartingWith(w.corpus(), w.prefix));
+        ops.put("noWordsStartWith(WordCorpus)", w -> UsingStreams.noWordsStartWith(w.corpus(), w.prefix));
+        ops.put("findIndexOfFirstWordStartingWith(WordCorpus)", w -> UsingStreams.findIndexOfFirstWordStartingWith(w.corpus(), w.prefix));
+        ops.put("findIndexOfLastWordStartingWith(WordCorpus)", w -> UsingStreams.findIndexOfLastWordStartingWith(w.corpus(), w.prefix));
+        ops.put("findWordsWithLengthOf(WordCorpus)", w -> UsingStreams.findWordsWithLengthOf(w.corpus(), 5));
+        ops.put("findWordsContaining(WordCorpus)", w -> UsingStreams.findWordsContaining(w.corpus(), w.letter));
+        ops.put("removeWordsContainingTheLetter(WordCorpus)", w -> UsingStreams.removeWordsContainingTheLetter(w.corpus(), w.letter));
+        ops.put("getListOfWordLengths(WordCorpus)", w -> UsingStreams.getListOfWordLengths(w.corpus()));
+        ops.put("countDistinctLengths(WordCorpus)", w -> UsingStreams.countDistinctLengths(w.corpus()));
+        ops.put("findMaxWordLength(WordCorpus)", w -> UsingStreams.findMaxWordLength(w.corpus()));
+        ops.put("findMinWordLength(WordCorpus)", w -> UsingStreams.findMinWordLength(w.corpus()));
+        ops.put("calculateTotalLengthofAllWords(WordCorpus)", w -> UsingStreams.calculateTotalLengthofAllWords(w.corpus()));
+        ops.put("getAverageLength(WordCorpus)", w -> UsingStreams.getAverageLength(w.corpus()));
+        ops.put("groupWordsByLength(WordCorpus)", w -> UsingStreams.groupWordsByLength(w.corpus()));
+        ops.put("findTheLongestWord(WordCorpus)", w -> UsingStreams.findTheLongestWord(w.corpus()));
+        ops.put("findFirstStartsWithInParallel", w -> UsingStreams.findFirstStartsWithInParallel(w.words, w.prefix));
+        ops.put("findFirstThreeWordsInParallel", w -> UsingStreams.findFirstThreeWordsInParallel(w.words));
+        ops.put("CharKernels.upperCase", w -> CharKernels.upperCase().applyAll(w.words));
+        ops.put("CharKernels.vowelsReplacedWith", w -> CharKernels.vowelsReplacedWith("X").applyAll(w.words));
+        ops.put("CharKernels.reversed", w -> CharKernels.reversed().applyAll(w.words));
+        ops.put("getWordsSkippingFirstFewInParallel", w -> UsingStreams.getWordsSkippingFirstFewInParallel(w.words, 2));
+        ops.put("estimateDistinctWords", w -> UsingStreams.estimateDistinctWords(w.words));
+        ops.put("estimateDistinctWords(MAX_PRECISION)", w -> UsingStreams.estimateDistinctWords(w.words, HyperLogLog.MAX_PRECISION));
+        ops.put("getWordsSortedInNaturalOrderInParallel", w -> UsingStreams.getWordsSortedInNaturalOrderInParallel(w.words));
+        ops.put("StringSort.sort", w -> sorted(w.array, StringSort::sort));
+        ops.put("StringSort.parallelSort", w -> sorted(w.array, StringSort::parallelSort));
+        ops.put("Arrays.sort", w -> sorted(w.array, Arrays::sort));
+        ops.put("Arrays.parallelSort", w -> sorted(w.array, Arrays::parallelSort));
+        ops.put("groupWordsByLengthInParallel", w -> UsingStreams.groupWordsByLengthInParallel(w.words));
+        ops.put("LengthBuckets.of", w -> LengthBuckets.of(w.words));
+        ops.put("concatenateDistinctLettersInParallel", w -> UsingStreams.concatenateDistinctLettersInParallel(w.words));
+        ops.put("findDistinctLettersFromWordsInParallel", w -> UsingStreams.findDistinctLettersFromWordsInParallel(w.words));
+        ops.put("WordJoiner.commaSeparated.join", w -> WordJoiner.commaSeparated().join(w.words));
+        ops.put("WordJoiner.upperCaseConcatenated.join", w -> WordJoiner.upperCaseConcatenated().join(w.words));
+        ops.put("WordJoiner.commaSeparated.writeTo", w -> joinedBytes(WordJoiner.commaSeparated(), w.words));
+        // lazy results are drained, so the whole scan is measured
+        ops.put("streamWordsThatStartWithA", w -> drained(UsingStreams.streamWordsThatStartWithA(w.words)));
+        ops.put("streamWordsWithLengthOf", w -> drained(UsingStreams.streamWordsWithLengthOf(w.words, 5)));
+        ops.put("streamWordsContaining", w -> drained(UsingStreams.streamWordsContaining(w.words, w.letter)));
+        ops.put("streamWordsNotContaining", w -> drained(UsingStreams.streamWordsNotContaining(w.words, w.letter)));
+        ops.put("streamWordsSkippingFirstFew", w -> drained(UsingStreams.streamWordsSkippingFirstFew(w.words, 2)));
+        ops.put("iterateWordsThatStartWithA", w -> drained(UsingStreams.iterateWordsThatStartWithA(w.words)));
+        ops.put("iterateWordsWithLengthOf", w -> drained(UsingStreams.iterateWordsWithLengthOf(w.words, 5)));
+        ops.put("iterateWordsContaining", w -> drained(UsingStreams.iterateWordsContaining(w.words, w.letter)));
+        ops.put("iterateWordsNotContaining", w -> drained(UsingStreams.iterateWordsNotContaining(w.words, w.letter)));
+        ops.put("iterateWordsSkippingFirstFew", w -> drained(UsingStreams.iterateWordsSkippingFirstFew(w.words, 2)));
+        ops.put("getWordsWithoutDuplicates(WordPool)", w -> UsingStreams.getWordsWithoutDuplicates(w.words, w.pool()));
+        ops.put("convertListOfWordsToSet(WordPool)", w -> UsingStreams.convertListOfWordsToSet(w.words, w.pool()));
+        ops.put("groupWordsByLength(WordPool)", w -> UsingStreams.groupWordsByLength(w.words, w.pool()));
+        ops.put("getCounts(WordPool)", w -> UsingStreams.getCounts(w.words, w.pool()));
+        ops.put("getWordsWithoutDuplicates(Stream)",
+                w -> drained(UsingStreams.getWordsWithoutDuplicates(w.words.stream(), EXTERNAL_MEMORY_BUDGET)));
+        ops.put("getWordsSortedInNaturalOrder(Stream)",
+                w -> drained(UsingStreams.getWordsSortedInNaturalOrder(w.words.stream(), EXTERNAL_MEMORY_BUDGET)));
+        ops.put("getCommaSeparatedString(Appendable)", w -> appended(UsingStreams::getCommaSeparatedString, w.words));
+        ops.put("concatenateWithHyphen(Appendable)", w -> appended(UsingStreams::concatenateWithHyphen, w.words));
+        ops.put("uppercaseConcatenated(Appendable)", w -> appended(UsingStreams::uppercaseConcatenated, w.words));
+        return ops;
+    }
+
+    /**
+     * Visits every element of a lazy result and closes it, which deletes any files an external sort spilled.
+     * {@link Stream#count()} is not used because it may skip the traversal of a sized stream.
+     */
+    private static long drained(Stream<String> words) {
+        try (words) {
+            return drained(words.iterator());
+        }
+    }
+
+    private static long drained(Iterator<String> words) {
+        long count = 0;
+        while (words.hasNext()) {
+            words.next();
+            count++;
+        }
+        return count;
+    }
+
+    private interface AppendingMethod {
+        void writeTo(List<String> words, Appendable out) throws IOException;
+    }
+
+    /** Writes into a discarding {@link Writer}, so only the method's own buffers are measured. */
+    private static Writer appended(AppendingMethod method, List<String> words) {
+        Writer out = Writer.nullWriter();
+        try {
+            method.writeTo(words, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /** Streams into a discarding channel, so only the joiner's own buffers are measured. */
+    private static long joinedBytes(WordJoiner joiner, List<String> words) {
+        try {
+            return joiner.writeTo(words, Channels.newChannel(OutputStream.nullOutputStream()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Sorts a copy, so every iteration sees the workload's original order. */
+    private static String[] sorted(String[] array, Consumer<String[]> sort) {
+        String[] copy = array.clone();
+        sort.accept(copy);
+        return copy;
+    }
+
+    // region Measurement
+    /** Result of one operation at one parameter set. */
+    record Measurement(String operation, int size, LengthDistribution lengths, double duplicates,
+                       double opsPerSecond, double bytesPerOp) {
+        @Override
+        public String toString() {
+            return String.format("%-44s %10d %-8s %5.2f %16.2f %18.1f",
+                    operation, size, lengths, duplicates, opsPerSecond, bytesPerOp);
+        }
+    }
+
+    /**
+     * Keeps results observable so the JIT cannot discard the measured work. Results are consumed by identity
+     * only: hashing a returned list or map would walk it inside the timed loop and charge that to the operation.
+     */
+    private static volatile int sink;
+
+    static Measurement measure(String name, Function<Workload, Object> op, Workload workload,
+                               int size, LengthDistribution lengths, double duplicates,
+                               long warmupMillis, long measureMillis) {
+        run(op, workload, warmupMillis);
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long ops = run(op, workload, measureMillis);
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        return new Measurement(name, size, lengths, duplicates,
+                ops * 1_000_000_000.0 / elapsed, allocatedBefore < 0 ? Double.NaN : Math.max(0, allocated) / (double) ops);
+    }
+
+    private static long run(Function<Workload, Object> op, Workload workload, long millis) {
+        long deadline = System.nanoTime() + millis * 1_000_000L;
+        long ops = 0;
+        do {
+            sink ^= System.identityHashCode(op.apply(workload));
+            ops++;
+        } while (System.nanoTime() < deadline);
+        return ops;
+    }
+
+    /**
+     * Bytes allocated so far by all live threads, so that fork/join workers of parallel operations are counted.
+     * Threads that exit between two readings take their allocations with them; the common pool's workers
+     * normally outlive a measurement.
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            long total = 0;
+            for (long bytes : bean.getThreadAllocatedBytes(bean.getAllThreadIds())) {
+                if (bytes > 0) total += bytes;
+            }
+            return total;
+        }
+        return -1;
+    }
+    // endregion
+
+    // region Accuracy
+    /**
+     * Compares approximate top-K counting with the exact counts: how many of the true top-K words are reported,
+     * and the largest overcount among the reported words relative to the corpus size.
+     */
+    static String heavyHittersAccuracy(List<String> words, int k) {
+        Map<Object, Long> exact = CountingEngine.countOf(words);
+        Set<Object> trueTop = new HashSet<>(exact.entrySet().stream()
+                .sorted(Map.Entry.<Object, Long>comparingByValue().reversed())
+                .limit(k).map(Map.Entry::getKey).toList());
+        List<Map.Entry<String, Long>> reported = HeavyHitters.of(words, k, 0.001, 0.01).topK();
+        long hits = reported.stream().filter(e -> trueTop.contains(e.getKey())).count();
+        long maxOvercount = reported.stream().mapToLong(e -> e.getValue() - exact.get(e.getKey())).max().orElse(0);
+        return String.format("HeavyHitters top-%d: recall %.2f, max overcount %d (%.5f of %d words)",
+                k, trueTop.isEmpty() ? 1.0 : (double) hits / trueTop.size(), maxOvercount,
+                words.isEmpty() ? 0.0 : (double) maxOvercount / words.size(), words.size());
+    }
+    // endregion
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        int[] sizes = Arrays.stream(options.getOrDefault("sizes", "10,1000,100000").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+        List<LengthDistribution> distributions = Arrays.stream(options.getOrDefault("lengths", "FIXTURE,UNIFORM").split(","))
+                .map(LengthDistribution::valueOf).toList();
+        double[] duplicates = Arrays.stream(options.getOrDefault("duplicates", "0.0,0.5,0.9").split(","))
+                .mapToDouble(Double::parseDouble).toArray();
+        Pattern filter = Pattern.compile(options.getOrDefault("ops", ".*"));
+        long warmup = Long.parseLong(options.getOrDefault("warmup", "200"));
+        long measure = Long.parseLong(options.getOrDefault("measure", "500"));
+        int topK = Integer.parseInt(options.getOrDefault("topk", "0"));
+
+        PrintStream out = System.out;
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        out.printf("%-44s %10s %-8s %5s %16s %18s%n", "operation", "size", "lengths", "dups", "ops/s", "bytes/op");
+        for (int size : sizes) {
+            for (LengthDistribution distribution : distributions) {
+                for (double duplicateRatio : duplicates) {
+                    Workload workload = new Workload(generate(size, distribution, duplicateRatio, 42));
+                    if (topK > 0) {
+                        out.printf("%-44s %10d %-8s %5.2f   %s%n", "accuracy", size, distribution, duplicateRatio,
+                                heavyHittersAccuracy(workload.words, topK));
+                    }
+                    for (Map.Entry<String, Function<Workload, Object>> op : operations().entrySet()) {
+                        if (!filter.matcher(op.getKey()).matches()) continue;
+                        // the print* operations write every word, keep that out of the report
+                        System.setOut(discard);
+                        Measurement m;
+                        try {
+                            m = measure(op.getKey(), op.getValue(), workload, size, distribution, duplicateRatio, warmup, measure);
+                        } finally {
+                            System.setOut(out);
+                        }
+                        out.println(m);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package streams;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * An immutable, indexed sequence of words stored column-wise instead of as one {@code String} per word.
+ * <p>
+ * Implementations keep the characters of all words in shared storage and answer per-word questions by index,
+ * so scanning a corpus touches contiguous memory and creates no objects. A {@code String} is only created by
+ * {@link #word(int)}. The {@code UsingStreams} overloads taking a {@code WordCorpus} are built on these
+ * operations.
+ */
+public interface WordCorpus {
+
+    /**
+     * Copies {@code words} into a compact on-heap corpus.
+     */
+    static WordCorpus of(List<String> words) {
+        ArrayWordCorpus.Builder builder = new ArrayWordCorpus.Builder(words.size(), 8 * words.size());
+        for (String word : words) {
+            builder.add(word);
+        }
+        return builder.build();
+    }
+
+    int size();
+
+    /**
+     * @return the length of word {@code index} in UTF-16 chars, as {@link String#length()} would report
+     */
+    int length(int index);
+
+    /**
+     * @return word {@code index} as a new {@code String}
+     */
+    String word(int index);
+
+    /**
+     * @return the same value as {@code word(index).hashCode()}
+     */
+    int hash(int index);
+
+    /**
+     * @return true if words {@code i} and {@code j} have the same characters
+     */
+    boolean wordEquals(int i, int j);
+
+    /**
+     * @return a predicate over word indexes that is true for words starting with {@code prefix}
+     */
+    IntPredicate startingWith(String prefix);
+
+    /**
+     * @return a predicate over word indexes that is true for words containing {@code part}
+     */
+    IntPredicate containing(String part);
+
+    /**
+     * @return all words as new {@code String}s, in order
+     */
+    default List<String> toList() {
+        List<String> words = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            words.add(word(i));
+        }
+        return words;
+    }
+}
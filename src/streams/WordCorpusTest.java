@@ -0,0 +1,98 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordCorpusTest {
+    // region Fields
+    List<String> words;
+    WordCorpus corpus;
+    WordCorpus states;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+        corpus = WordCorpus.of(words);
+        states = WordCorpus.of(List.of("California", "Alabama", "Texas", "California", "Nevada", "Texas", "Louisiana", "Texas"));
+    }
+
+    @Test
+    @DisplayName("Corpus returns the words it was built from ...")
+    void of_roundTripsWords() {
+        assertEquals(7, corpus.size());
+        assertEquals(words, corpus.toList());
+        assertEquals("banana".hashCode(), corpus.hash(1));
+        assertEquals(6, corpus.length(2));
+        assertTrue(corpus.wordEquals(0, 6));
+        assertFalse(corpus.wordEquals(0, 3));
+        assertEquals(List.of("", "x"), WordCorpus.of(List.of("", "x")).toList());
+    }
+
+    @Test
+    @DisplayName("Return the count of each state from a corpus ...")
+    void getCounts_returnCountOfEachState() {
+        // when
+        ConcurrentMap<Object, Long> counts = UsingStreams.getCounts(states);
+        Map<String, Integer> basic = UsingStreams.getCountsBasic(states);
+        // then
+        assertEquals(3L, counts.get("Texas"));
+        assertEquals(5, counts.size());
+        assertEquals(2, basic.get("California"));
+        assertEquals(8L, UsingStreams.getWordCount(states));
+    }
+
+    @Test
+    @DisplayName("Starts-with queries over a corpus ...")
+    void startsWithQueries() {
+        assertTrue(UsingStreams.checkIfStartsWith(corpus, "g"));
+        assertFalse(UsingStreams.checkIfStartsWith(corpus, "z"));
+        assertEquals("orange", UsingStreams.findFirstStartsWith(corpus, "o"));
+        assertNull(UsingStreams.findFirstStartsWith(corpus, "z"));
+        assertEquals(1, UsingStreams.countWordsStartingWith(corpus, "b"));
+        assertTrue(UsingStreams.noWordsStartWith(corpus, "z"));
+        assertEquals(3, UsingStreams.findIndexOfFirstWordStartingWith(corpus, "g"));
+        assertEquals(6, UsingStreams.findIndexOfLastWordStartingWith(corpus, "a"));
+        assertEquals(-1, UsingStreams.findIndexOfLastWordStartingWith(corpus, "z"));
+    }
+
+    @Test
+    @DisplayName("Length and contains queries over a corpus ...")
+    void lengthAndContainsQueries() {
+        assertEquals(List.of("apple", "grape", "apple"), UsingStreams.findWordsWithLengthOf(corpus, 5));
+        assertEquals(List.of("apple", "grape", "pear", "apple"), UsingStreams.findWordsContaining(corpus, "p"));
+        assertEquals(List.of("apple", "apple"), UsingStreams.findWordsContaining(corpus, "pl"));
+        assertEquals(List.of("apple", "banana", "grape", "pear", "kiwi", "apple"), UsingStreams.removeWordsContainingTheLetter(corpus, "o"));
+        assertEquals(List.of(5, 6, 6, 5, 4, 4, 5), UsingStreams.getListOfWordLengths(corpus));
+        assertEquals(3, UsingStreams.countDistinctLengths(corpus));
+        assertEquals(6, UsingStreams.findMaxWordLength(corpus));
+        assertEquals(4, UsingStreams.findMinWordLength(corpus));
+        assertEquals(35, UsingStreams.calculateTotalLengthofAllWords(corpus));
+        assertEquals(5.0, UsingStreams.getAverageLength(corpus), 0.001);
+        assertEquals(List.of("apple", "grape", "apple"), UsingStreams.groupWordsByLength(corpus).get(5));
+        assertEquals("banana", UsingStreams.findTheLongestWord(corpus));
+    }
+
+    @Test
+    @DisplayName("Builders grow past their presized capacity ...")
+    void builder_growsPastPresizedCapacity() {
+        for (ArrayWordCorpus.Builder builder : List.of(new ArrayWordCorpus.Builder(), new ArrayWordCorpus.Builder(100, 800))) {
+            // given
+            List<String> many = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) many.add("word" + i);
+            // when
+            for (String word : many) builder.add(word);
+            ArrayWordCorpus built = builder.build();
+            // then
+            assertEquals(many, built.toList());
+            assertEquals("word999".hashCode(), built.hash(999));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package streams;
+
+/**
+ * 64-bit hashing of words for the probabilistic sketches.
+ * <p>
+ * {@link String#hashCode()} has only 32 bits and poorly mixed low bits, which skews both sketch rows and
+ * register selection. Characters are folded FNV-1a style and the result is finished with the MurmurHash3
+ * 64-bit mixer so that every output bit depends on every input bit.
+ */
+final class WordHash {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private WordHash() {
+    }
+
+    static long hash64(String word) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < word.length(); i++) {
+            h ^= word.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return mix(h ^ word.length());
+    }
+
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,250 @@
+package streams;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Joins words with a separator, optionally transforming each word with a {@link CharKernels.Kernel}, either
+ * into a presized {@code String} or streamed into a sink through a bounded buffer.
+ * <p>
+ * {@link #join(List)} sums the word and separator lengths first and allocates the builder once; a kernel
+ * that changes word lengths (upper-casing {@code "ß"}, say) costs at most one regrowth. The {@code writeTo}
+ * methods never hold more than the buffer: characters are copied into a fixed {@code char[]} which is handed
+ * to a {@link Writer} or {@link Appendable}, or encoded as UTF-8 into a fixed {@link ByteBuffer} for a
+ * {@link WritableByteChannel}, whenever it fills up.
+ * <pre>
+ *   try (Writer out = Files.newBufferedWriter(path)) {
+ *       WordJoiner.commaSeparated().writeTo(words, out); // getCommaSeparatedString, without the String
+ *   }
+ * </pre>
+ */
+public final class WordJoiner {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final String separator;
+    private final CharKernels.Kernel kernel;
+
+    private WordJoiner(String separator, CharKernels.Kernel kernel) {
+        this.separator = separator;
+        this.kernel = kernel;
+    }
+
+    // region Joiners
+    public static WordJoiner joining(String separator) {
+        return new WordJoiner(separator, null);
+    }
+
+    /**
+     * @see UsingStreams#getCommaSeparatedString(List)
+     */
+    public static WordJoiner commaSeparated() {
+        return joining(",");
+    }
+
+    /**
+     * @see UsingStreams#concatenateWithHyphen(List)
+     */
+    public static WordJoiner hyphenSeparated() {
+        return joining("-");
+    }
+
+    /**
+     * @see UsingStreams#uppercaseConcatenated(List)
+     */
+    public static WordJoiner upperCaseConcatenated() {
+        return joining("").mapping(CharKernels.upperCase());
+    }
+
+    /**
+     * @return a joiner that transforms each word with {@code kernel} before joining it
+     */
+    public WordJoiner mapping(CharKernels.Kernel kernel) {
+        return new WordJoiner(separator, kernel);
+    }
+    // endregion
+
+    // region In memory
+    public String join(List<String> words) {
+        long length = Math.max(0, words.size() - 1L) * separator.length();
+        for (String word : words) length += word.length();
+        if (length > Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Joined length " + length + " exceeds a String");
+        StringBuilder joined = new StringBuilder((int) length);
+        try {
+            write(words, new CharKernels.CharSink() {
+                @Override
+                public void write(String word) {
+                    joined.append(word);
+                }
+
+                @Override
+                public void write(char[] chars, int offset, int count) {
+                    joined.append(chars, offset, count);
+                }
+            });
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw", e);
+        }
+        return joined.toString();
+    }
+    // endregion
+
+    // region Streaming
+    /**
+     * @return the number of characters written
+     */
+    public long writeTo(Iterable<String> words, Appendable out) throws IOException {
+        return writeTo(words, out, DEFAULT_BUFFER_SIZE);
+    }
+
+    public long writeTo(Iterable<String> words, Appendable out, int bufferSize) throws IOException {
+        BufferedSink sink = new BufferedSink(bufferSize) {
+            @Override
+            int drain(char[] chars, int count, boolean endOfInput) throws IOException {
+                if (out instanceof Writer writer) {
+                    writer.write(chars, 0, count);
+                } else {
+                    out.append(count == chars.length ? CharBuffer.wrap(chars) : CharBuffer.wrap(chars, 0, count));
+                }
+                return count;
+            }
+        };
+        write(words, sink);
+        sink.finish();
+        return sink.chars;
+    }
+
+    /**
+     * Writes the joined words to {@code out} as UTF-8; {@code out} is not closed.
+     *
+     * @return the number of bytes written
+     */
+    public long writeTo(Iterable<String> words, OutputStream out) throws IOException {
+        return writeTo(words, Channels.newChannel(out), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Writes the joined words to {@code channel} as UTF-8; {@code channel} is not closed.
+     *
+     * @return the number of bytes written
+     */
+    public long writeTo(Iterable<String> words, WritableByteChannel channel) throws IOException {
+        return writeTo(words, channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public long writeTo(Iterable<String> words, WritableByteChannel channel, int bufferSize) throws IOException {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        // at least room for the 4 bytes of a surrogate pair, which the encoder must write in one go
+        ByteBuffer bytes = ByteBuffer.allocate(Math.max(16, bufferSize));
+        long[] written = new long[1];
+        BufferedSink sink = new BufferedSink(bufferSize) {
+            @Override
+            int drain(char[] chars, int count, boolean endOfInput) throws IOException {
+                CharBuffer in = CharBuffer.wrap(chars, 0, count);
+                while (true) {
+                    CoderResult result = encoder.encode(in, bytes, endOfInput);
+                    if (result.isError()) result.throwException();
+                    if (result.isUnderflow()) break;
+                    written[0] += flush(bytes, channel);
+                }
+                if (endOfInput) {
+                    while (encoder.flush(bytes).isOverflow()) written[0] += flush(bytes, channel);
+                    written[0] += flush(bytes, channel);
+                }
+                // an unpaired high surrogate at the end of the buffer waits for the next drain
+                return in.position();
+            }
+        };
+        try {
+            write(words, sink);
+            sink.finish();
+        } catch (CharacterCodingException e) {
+            throw new IOException("Word is not valid UTF-16", e);
+        }
+        return written[0];
+    }
+
+    private static int flush(ByteBuffer bytes, WritableByteChannel channel) throws IOException {
+        bytes.flip();
+        int count = bytes.remaining();
+        while (bytes.hasRemaining()) channel.write(bytes);
+        bytes.clear();
+        return count;
+    }
+
+    /** A fixed char buffer that drains to its target whenever it is full. */
+    private abstract static class BufferedSink implements CharKernels.CharSink {
+        private final char[] buffer;
+        private int count;
+        long chars;
+
+        BufferedSink(int size) {
+            if (size < 2) throw new IllegalArgumentException("bufferSize must be at least 2: " + size);
+            this.buffer = new char[size];
+        }
+
+        /**
+         * Hands {@code chars[0..count)} to the target.
+         *
+         * @return how many chars were consumed; the rest are kept for the next drain
+         */
+        abstract int drain(char[] chars, int count, boolean endOfInput) throws IOException;
+
+        @Override
+        public void write(String word) throws IOException {
+            for (int from = 0; from < word.length(); ) {
+                int n = Math.min(word.length() - from, buffer.length - count);
+                word.getChars(from, from + n, buffer, count);
+                advance(n);
+                from += n;
+            }
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            for (int from = offset, end = offset + length; from < end; ) {
+                int n = Math.min(end - from, buffer.length - count);
+                System.arraycopy(chars, from, buffer, count, n);
+                advance(n);
+                from += n;
+            }
+        }
+
+        private void advance(int n) throws IOException {
+            count += n;
+            chars += n;
+            if (count == buffer.length) drainKeepingRest(false);
+        }
+
+        void finish() throws IOException {
+            drainKeepingRest(true);
+        }
+
+        private void drainKeepingRest(boolean endOfInput) throws IOException {
+            int consumed = drain(buffer, count, endOfInput);
+            System.arraycopy(buffer, consumed, buffer, 0, count - consumed);
+            count -= consumed;
+        }
+    }
+    // endregion
+
+    private void write(Iterable<String> words, CharKernels.CharSink sink) throws IOException {
+        boolean first = true;
+        for (String word : words) {
+            if (!first && !separator.isEmpty()) sink.write(separator);
+            first = false;
+            if (kernel == null) sink.write(word);
+            else kernel.applyTo(word, sink);
+        }
+    }
+}
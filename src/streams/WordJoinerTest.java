@@ -0,0 +1,79 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordJoinerTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    @Test
+    @DisplayName("Join into presized Strings ...")
+    void join_returnsJoinedWords() {
+        // then
+        assertEquals("apple,banana,orange,grape,pear,kiwi,apple", WordJoiner.commaSeparated().join(words));
+        assertEquals("apple-banana-orange-grape-pear-kiwi-apple", WordJoiner.hyphenSeparated().join(words));
+        assertEquals("APPLEBANANAORANGEGRAPEPEARKIWIAPPLE", WordJoiner.upperCaseConcatenated().join(words));
+        assertEquals("STRASSE|CAFÉ", WordJoiner.joining("|").mapping(CharKernels.upperCase()).join(List.of("straße", "café")));
+        assertEquals("", WordJoiner.commaSeparated().join(List.of()));
+    }
+
+    @Test
+    @DisplayName("Stream joined words into a Writer or Appendable ...")
+    void writeTo_appendable() throws IOException {
+        // given
+        StringWriter writer = new StringWriter();
+        StringBuilder builder = new StringBuilder();
+        // when
+        UsingStreams.getCommaSeparatedString(words, writer);
+        long chars = WordJoiner.upperCaseConcatenated().writeTo(words, builder, 4);
+        // then
+        assertEquals("apple,banana,orange,grape,pear,kiwi,apple", writer.toString());
+        assertEquals("APPLEBANANAORANGEGRAPEPEARKIWIAPPLE", builder.toString());
+        assertEquals(builder.length(), chars);
+    }
+
+    @Test
+    @DisplayName("Stream joined words as UTF-8, splitting surrogate pairs across buffers ...")
+    void writeTo_channelEncodesUtf8() throws IOException {
+        // given
+        List<String> mixed = new ArrayList<>(words);
+        mixed.addAll(List.of("crème", "😀😀", "𝄞", "naïve"));
+        String expected = String.join("-", mixed);
+        for (int bufferSize : new int[]{2, 3, 7, 8192}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            // when
+            long bytes = WordJoiner.hyphenSeparated().writeTo(mixed, Channels.newChannel(out), bufferSize);
+            // then
+            assertEquals(expected, out.toString(StandardCharsets.UTF_8), "buffer " + bufferSize);
+            assertEquals(expected.getBytes(StandardCharsets.UTF_8).length, bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("Unpaired surrogates are rejected ...")
+    void writeTo_rejectsMalformedWords() {
+        // given
+        List<String> malformed = List.of("ok", "\uD83D");
+        // then
+        assertThrows(IOException.class, () -> WordJoiner.commaSeparated().writeTo(malformed, new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class, () -> WordJoiner.commaSeparated().writeTo(words, new StringBuilder(), 1));
+    }
+}
@@ -0,0 +1,168 @@
+package streams;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+/**
+ * Word-length statistics gathered in a single pass, to answer several length queries over the same corpus.
+ * <p>
+ * One traversal records count, sum, min, max, product, a histogram of lengths (which doubles as the
+ * distinct-length bitmap) and the lengths in encounter order. Instances built over disjoint parts of a list
+ * can be {@link #combine(WordLengthStats) combined}, which is what {@link #collector()} does for parallel
+ * streams.
+ * <pre>
+ *   WordLengthStats stats = WordLengthStats.of(words);
+ *   int max = stats.max();              // findMaxWordLength
+ *   double avg = stats.average();       // getAverageLength
+ *   long distinct = stats.distinctLengths(); // countDistinctLengths
+ * </pre>
+ * Not thread-safe while being filled; read-only use after construction is safe.
+ */
+public class WordLengthStats {
+
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    private int product = 1;
+    private int[] histogram = new int[16];
+    private int[] lengths = new int[16];
+
+    public static WordLengthStats of(List<String> words) {
+        WordLengthStats stats = new WordLengthStats();
+        for (String word : words) {
+            stats.accept(word);
+        }
+        return stats;
+    }
+
+    public static WordLengthStats ofParallel(List<String> words) {
+        return words.parallelStream().collect(collector());
+    }
+
+    public static Collector<String, WordLengthStats, WordLengthStats> collector() {
+        return Collector.of(WordLengthStats::new, WordLengthStats::accept, WordLengthStats::combine);
+    }
+
+    // region Accumulation
+    public void accept(String word) {
+        accept(word.length());
+    }
+
+    public void accept(int length) {
+        if (length >= histogram.length) {
+            histogram = Arrays.copyOf(histogram, Math.max(length + 1, histogram.length * 2));
+        }
+        histogram[length]++;
+        if (count == lengths.length) {
+            lengths = Arrays.copyOf(lengths, Math.toIntExact(Math.min(Integer.MAX_VALUE - 8, count * 2)));
+        }
+        lengths[(int) count] = length;
+        count++;
+        sum += length;
+        min = Math.min(min, length);
+        max = Math.max(max, length);
+        product *= length;
+    }
+
+    /**
+     * Merges {@code other} into this instance; {@code other} is taken to follow this one in encounter order.
+     *
+     * @return this instance
+     */
+    public WordLengthStats combine(WordLengthStats other) {
+        if (other.histogram.length > histogram.length) {
+            histogram = Arrays.copyOf(histogram, other.histogram.length);
+        }
+        for (int length = 0; length < other.histogram.length; length++) {
+            histogram[length] += other.histogram[length];
+        }
+        int total = Math.toIntExact(count + other.count);
+        if (total > lengths.length) {
+            lengths = Arrays.copyOf(lengths, total);
+        }
+        System.arraycopy(other.lengths, 0, lengths, (int) count, (int) other.count);
+        count = total;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        product *= other.product;
+        return this;
+    }
+    // endregion
+
+    // region Queries
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @see UsingStreams#calculateTotalLengthofAllWords(List)
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * @return the longest length, or 0 for an empty corpus
+     * @see UsingStreams#findMaxWordLength(List)
+     */
+    public int max() {
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * @return the shortest length, or 0 for an empty corpus
+     * @see UsingStreams#findMinWordLength(List)
+     */
+    public int min() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * @return the mean length, or 0.0 for an empty corpus
+     * @see UsingStreams#getAverageLength(List)
+     */
+    public double average() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * @return the product of all lengths with {@code int} overflow semantics, 1 for an empty corpus
+     * @see UsingStreams#calculateProductOfWordLengths(List)
+     */
+    public int product() {
+        return product;
+    }
+
+    /**
+     * @see UsingStreams#countDistinctLengths(List)
+     */
+    public long distinctLengths() {
+        long distinct = 0;
+        for (int n : histogram) {
+            if (n > 0) distinct++;
+        }
+        return distinct;
+    }
+
+    /**
+     * @return how many words have exactly {@code length} characters
+     */
+    public int countOfLength(int length) {
+        return length >= 0 && length < histogram.length ? histogram[length] : 0;
+    }
+
+    /**
+     * @return the length of each word in encounter order
+     * @see UsingStreams#getListOfWordLengths(List)
+     */
+    public List<Integer> lengths() {
+        List<Integer> result = new ArrayList<>((int) count);
+        for (int i = 0; i < count; i++) {
+            result.add(lengths[i]);
+        }
+        return result;
+    }
+    // endregion
+}
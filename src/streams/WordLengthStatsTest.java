@@ -0,0 +1,69 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordLengthStatsTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    @Test
+    @DisplayName("One pass answers all the length queries ...")
+    void of_answersLengthQueries() {
+        // when
+        WordLengthStats stats = WordLengthStats.of(words);
+        // then
+        assertEquals(7, stats.count());
+        assertEquals(6, stats.max());
+        assertEquals(4, stats.min());
+        assertEquals(5.0, stats.average(), 0.001);
+        assertEquals(35, stats.sum());
+        assertEquals(72000, stats.product());
+        assertEquals(3, stats.distinctLengths());
+        assertEquals(3, stats.countOfLength(5));
+        assertEquals(List.of(5, 6, 6, 5, 4, 4, 5), stats.lengths());
+    }
+
+    @Test
+    @DisplayName("Parallel statistics equal sequential statistics ...")
+    void ofParallel_matchesSequential() {
+        // given
+        List<String> large = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) large.addAll(words);
+        large.add("watermelon");
+        // when
+        WordLengthStats sequential = WordLengthStats.of(large);
+        WordLengthStats parallel = WordLengthStats.ofParallel(large);
+        // then
+        assertEquals(sequential.lengths(), parallel.lengths());
+        assertEquals(sequential.product(), parallel.product());
+        assertEquals(sequential.sum(), parallel.sum());
+        assertEquals(10, parallel.max());
+        assertEquals(4, parallel.distinctLengths());
+    }
+
+    @Test
+    @DisplayName("Empty corpus has neutral statistics ...")
+    void of_emptyCorpus() {
+        // when
+        WordLengthStats stats = WordLengthStats.of(List.of());
+        // then
+        assertEquals(0, stats.max());
+        assertEquals(0, stats.min());
+        assertEquals(0.0, stats.average());
+        assertEquals(0, stats.distinctLengths());
+        assertTrue(stats.lengths().isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+package streams;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe canonicalization pool: {@link #intern(String)} returns one shared instance for equal
+ * words, so repeated words cost one {@code String} and later hash lookups of them mostly end at the identity
+ * check in {@link String#equals(Object)}.
+ * <p>
+ * Unlike {@link String#intern()} the pool never grows past its capacity. It is a two-way set-associative
+ * table of slots updated without locks; a word missing from both slots of its set replaces one of them,
+ * evicting the previous word. Eviction only costs sharing, never correctness: a word that lost its slot is
+ * simply pooled again next time. Concurrent callers may briefly receive different equal instances.
+ */
+public class WordPool {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final AtomicReferenceArray<String> slots;
+    private final int setMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public WordPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity maximum number of pooled words, rounded up to a power of two of at least 2
+     */
+    public WordPool(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) throw new IllegalArgumentException("capacity out of range: " + capacity);
+        int slotCount = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.setMask = slotCount / 2 - 1;
+    }
+
+    /**
+     * @return the pooled instance equal to {@code word}, or {@code word} itself after pooling it
+     */
+    public String intern(String word) {
+        int h = word.hashCode() * 0x9E3779B9;
+        int first = ((h ^ (h >>> 16)) & setMask) << 1;
+        String a = slots.get(first);
+        if (word.equals(a)) {
+            hits.increment();
+            return a;
+        }
+        String b = slots.get(first + 1);
+        if (word.equals(b)) {
+            hits.increment();
+            return b;
+        }
+        misses.increment();
+        // fill an empty slot first; otherwise let a hash bit pick the victim so neither slot is always evicted
+        int victim = a == null ? first : b == null ? first + 1 : first + ((h >>> 15) & 1);
+        slots.set(victim, word);
+        return word;
+    }
+
+    /**
+     * @return a new list of the pooled instances of {@code words}, in the same order
+     */
+    public List<String> internAll(List<String> words) {
+        String[] interned = new String[words.size()];
+        int i = 0;
+        for (String word : words) interned[i++] = intern(word);
+        return Arrays.asList(interned);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) slots.set(i, null);
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "WordPool[capacity=" + capacity() + ", hits=" + hits() + ", misses=" + misses() + "]";
+    }
+}
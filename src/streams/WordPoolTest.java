@@ -0,0 +1,87 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordPoolTest {
+    // region Fields
+    List<String> words;
+    List<String> states;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", new String("apple"));
+        states = List.of("California", "Alabama", "Texas", "California", "Nevada", "Texas", "Louisiana", "Texas");
+    }
+
+    @Test
+    @DisplayName("Equal words share one instance ...")
+    void intern_returnsOneInstancePerWord() {
+        // given
+        WordPool pool = new WordPool(16);
+        // when
+        List<String> interned = pool.internAll(words);
+        // then
+        assertEquals(words, interned);
+        assertSame(interned.get(0), interned.get(6));
+        assertEquals(1, pool.hits());
+        assertEquals(6, pool.misses());
+    }
+
+    @Test
+    @DisplayName("The pool stays bounded and re-pools evicted words ...")
+    void intern_evictsBeyondCapacity() {
+        // given
+        WordPool pool = new WordPool(8);
+        // when
+        for (int i = 0; i < 1000; i++) pool.intern("word" + i);
+        String again = new String("word999");
+        // then
+        assertEquals(8, pool.capacity());
+        assertEquals("word999", pool.intern(again));
+        assertSame(pool.intern("word999"), pool.intern(new String("word999")));
+    }
+
+    @Test
+    @DisplayName("Concurrent interning always returns an equal word ...")
+    void intern_concurrently() {
+        // given
+        WordPool pool = new WordPool(64);
+        // when
+        boolean allEqual = IntStream.range(0, 100_000).parallel()
+                .allMatch(i -> pool.intern("w" + (i % 200)).equals("w" + (i % 200)));
+        // then
+        assertTrue(allEqual);
+        assertEquals(100_000, pool.hits() + pool.misses());
+    }
+
+    @Test
+    @DisplayName("Pooled overloads return canonical words ...")
+    void pooledOverloads_returnCanonicalWords() {
+        // given
+        WordPool pool = new WordPool();
+        String apple = pool.intern("apple");
+        // when
+        List<String> distinct = UsingStreams.getWordsWithoutDuplicates(words, pool);
+        Set<String> set = UsingStreams.convertListOfWordsToSet(words, pool);
+        Map<Integer, List<String>> groups = UsingStreams.groupWordsByLength(words, pool);
+        ConcurrentMap<Object, Long> counts = UsingStreams.getCounts(states, pool);
+        // then
+        assertEquals(List.of("apple", "banana", "orange", "grape", "pear", "kiwi"), distinct);
+        assertSame(apple, distinct.get(0));
+        assertEquals(Set.of("apple", "banana", "orange", "grape", "pear", "kiwi"), set);
+        assertSame(apple, groups.get(5).get(2));
+        assertEquals(List.of("apple", "grape", "apple"), groups.get(5));
+        assertEquals(3L, counts.get("Texas"));
+        assertEquals(5, counts.size());
+    }
+}
@@ -0,0 +1,283 @@
+package streams;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A query plan that chains {@link UsingStreams} operations and runs them in as few passes as possible.
+ * <p>
+ * Each stage is named after the {@code UsingStreams} method it stands for. Stateless stages (filters and
+ * per-word transforms) as well as skip, limit and distinct are fused into a single loop; only a sort has to
+ * see every word before emitting any, so it ends a pass and materializes its input. The terminal operation
+ * consumes the last pass directly, without an intermediate list.
+ * <pre>
+ *   String csv = WordQuery.from(words)
+ *           .removeWordsContainingTheLetter("k")
+ *           .getWordsWithoutDuplicates()
+ *           .getWordsSortedInNaturalOrder()
+ *           .getCommaSeparatedString();
+ * </pre>
+ * A plan is immutable; every stage method returns a new plan.
+ */
+public final class WordQuery {
+
+    private final List<String> source;
+    private final List<Step> stages;
+
+    private WordQuery(List<String> source, List<Step> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    public static WordQuery from(List<String> words) {
+        return new WordQuery(words, List.of());
+    }
+
+    // region Stages
+    /** Receives words from upstream; returns false once it wants no more. */
+    private interface Sink {
+        boolean accept(String word);
+    }
+
+    /** One operation of the plan: either a fused {@link Stage} or a {@link Breaker}. */
+    private sealed interface Step permits Stage, Breaker {
+        String description();
+    }
+
+    /** A stage that handles one word at a time, so it is fused into the loop of its pass. */
+    private abstract static non-sealed class Stage implements Step {
+        private final String description;
+
+        Stage(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String description() {
+            return description;
+        }
+
+        abstract Sink wrap(Sink downstream);
+    }
+
+    /** A stage that needs all of its input before it emits anything; it ends a pass and materializes. */
+    private abstract static non-sealed class Breaker implements Step {
+        private final String description;
+
+        Breaker(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String description() {
+            return description;
+        }
+
+        /** Turns everything the pass produced into the input of the next pass. */
+        abstract List<String> materialize(List<String> input);
+    }
+
+    /** The fused stages of one pass and the breaker ending it, or null for the last pass. */
+    private record Pass(List<Stage> stages, Breaker breaker) {
+    }
+
+    private static Stage filter(String description, Predicate<String> keep) {
+        return new Stage(description) {
+            @Override
+            Sink wrap(Sink downstream) {
+                return word -> !keep.test(word) || downstream.accept(word);
+            }
+        };
+    }
+
+    private static Stage map(String description, UnaryOperator<String> mapper) {
+        return new Stage(description) {
+            @Override
+            Sink wrap(Sink downstream) {
+                return word -> downstream.accept(mapper.apply(word));
+            }
+        };
+    }
+
+    private WordQuery then(Step stage) {
+        List<Step> next = new ArrayList<>(stages);
+        next.add(stage);
+        return new WordQuery(source, List.copyOf(next));
+    }
+
+    public WordQuery getWordsThatStartWithA() {
+        return then(filter("getWordsThatStartWithA", word -> word.startsWith("a")));
+    }
+
+    public WordQuery findWordsWithLengthOf(int length) {
+        return then(filter("findWordsWithLengthOf(" + length + ")", word -> word.length() == length));
+    }
+
+    public WordQuery findWordsContaining(String letter) {
+        return then(filter("findWordsContaining(" + letter + ")", word -> word.contains(letter)));
+    }
+
+    /** Keeps only the words containing {@code letter}, like {@link UsingStreams#removeWordsContaining}. */
+    public WordQuery removeWordsContaining(String letter) {
+        return then(filter("removeWordsContaining(" + letter + ")", word -> word.contains(letter)));
+    }
+
+    public WordQuery removeWordsContainingTheLetter(String letter) {
+        return then(filter("removeWordsContainingTheLetter(" + letter + ")", word -> !word.contains(letter)));
+    }
+
+    public WordQuery getUpperCase() {
+        return then(map("getUpperCase", CharKernels.upperCase()));
+    }
+
+    public WordQuery replaceOccurrencesWith(String orig, String replacement) {
+        return then(map("replaceOccurrencesWith(" + orig + ", " + replacement + ")", CharKernels.replacing(orig, replacement)));
+    }
+
+    public WordQuery replaceVowelsInEachWordWith(String replacement) {
+        return then(map("replaceVowelsInEachWordWith(" + replacement + ")", CharKernels.vowelsReplacedWith(replacement)));
+    }
+
+    public WordQuery reverseEachWord() {
+        return then(map("reverseEachWord", CharKernels.reversed()));
+    }
+
+    public WordQuery convertTheFirstLetterToUppercase() {
+        return then(map("convertTheFirstLetterToUppercase", CharKernels.capitalized()));
+    }
+
+    public WordQuery getWordsSkippingFirstFew(int count) {
+        return then(new Stage("getWordsSkippingFirstFew(" + count + ")") {
+            @Override
+            Sink wrap(Sink downstream) {
+                int[] skipped = {0};
+                return word -> {
+                    if (skipped[0] < count) {
+                        skipped[0]++;
+                        return true;
+                    }
+                    return downstream.accept(word);
+                };
+            }
+        });
+    }
+
+    public WordQuery findFirstThreeWords() {
+        return then(new Stage("findFirstThreeWords") {
+            @Override
+            Sink wrap(Sink downstream) {
+                int[] taken = {0};
+                return word -> ++taken[0] <= 3 && downstream.accept(word) && taken[0] < 3;
+            }
+        });
+    }
+
+    public WordQuery getWordsWithoutDuplicates() {
+        return then(new Stage("getWordsWithoutDuplicates") {
+            @Override
+            Sink wrap(Sink downstream) {
+                Set<String> seen = new HashSet<>();
+                return word -> !seen.add(word) || downstream.accept(word);
+            }
+        });
+    }
+
+    public WordQuery getWordsSortedInNaturalOrder() {
+        return then(new Breaker("getWordsSortedInNaturalOrder") {
+            @Override
+            List<String> materialize(List<String> input) {
+                input.sort(Comparator.naturalOrder());
+                return input;
+            }
+        });
+    }
+    // endregion
+
+    // region Terminals
+    public List<String> toList() {
+        List<String> result = new ArrayList<>();
+        execute(word -> result.add(word));
+        return result;
+    }
+
+    public String getCommaSeparatedString() {
+        return join(",");
+    }
+
+    public String concatenateWithHyphen() {
+        return join("-");
+    }
+
+    public Long getWordCount() {
+        long[] count = {0};
+        execute(word -> ++count[0] > 0);
+        return count[0];
+    }
+
+    public Map<Integer, List<String>> groupWordsByLength() {
+        Map<Integer, List<String>> groups = new HashMap<>();
+        execute(word -> groups.computeIfAbsent(word.length(), k -> new ArrayList<>()).add(word));
+        return groups;
+    }
+
+    private String join(String delimiter) {
+        StringJoiner joiner = new StringJoiner(delimiter);
+        execute(word -> joiner.add(word) != null);
+        return joiner.toString();
+    }
+    // endregion
+
+    // region Planning and execution
+    /** Splits the stages into passes: each pass is a run of fused stages, ended by a breaker or the terminal. */
+    private List<Pass> passes() {
+        List<Pass> passes = new ArrayList<>();
+        List<Stage> current = new ArrayList<>();
+        for (Step step : stages) {
+            if (step instanceof Breaker breaker) {
+                passes.add(new Pass(current, breaker));
+                current = new ArrayList<>();
+            } else {
+                current.add((Stage) step);
+            }
+        }
+        passes.add(new Pass(current, null));
+        return passes;
+    }
+
+    private void execute(Sink terminal) {
+        List<String> input = source;
+        for (Pass pass : passes()) {
+            List<String> buffer = new ArrayList<>();
+            Sink sink = pass.breaker() != null ? buffer::add : terminal;
+            for (int i = pass.stages().size() - 1; i >= 0; i--) {
+                sink = pass.stages().get(i).wrap(sink);
+            }
+            for (String word : input) {
+                if (!sink.accept(word)) break;
+            }
+            if (pass.breaker() != null) {
+                input = pass.breaker().materialize(buffer);
+            }
+        }
+    }
+
+    /**
+     * @return a description of the passes this plan runs, one line per pass
+     */
+    public String explain() {
+        StringBuilder plan = new StringBuilder();
+        List<Pass> passes = passes();
+        for (int p = 0; p < passes.size(); p++) {
+            Pass pass = passes.get(p);
+            plan.append("pass ").append(p + 1).append(": scan ")
+                    .append(p == 0 ? "source (" + source.size() + " words)" : "output of " + passes.get(p - 1).breaker().description());
+            for (Stage stage : pass.stages()) {
+                plan.append(" -> ").append(stage.description());
+            }
+            plan.append(pass.breaker() == null ? " -> result" : " => " + pass.breaker().description() + " [materialize]").append('\n');
+        }
+        return plan.toString();
+    }
+    // endregion
+}
@@ -0,0 +1,69 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordQueryTest {
+    // region Fields
+    List<String> words;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+    }
+
+    @Test
+    @DisplayName("Chained stages give the same result as chained methods ...")
+    void chain_removeDistinctSortJoin() {
+        // when
+        String actual = WordQuery.from(words)
+                .removeWordsContaining("p")
+                .getWordsWithoutDuplicates()
+                .getWordsSortedInNaturalOrder()
+                .getCommaSeparatedString();
+        // then
+        assertEquals("apple,grape,pear", actual);
+    }
+
+    @Test
+    @DisplayName("Transforms, skip and limit fuse into one pass ...")
+    void fusedStages() {
+        // given
+        WordQuery query = WordQuery.from(words)
+                .removeWordsContainingTheLetter("k")
+                .getUpperCase()
+                .getWordsSkippingFirstFew(1)
+                .findFirstThreeWords();
+        // then
+        assertEquals(List.of("BANANA", "ORANGE", "GRAPE"), query.toList());
+        assertEquals(3L, query.getWordCount());
+        assertEquals("BANANA-ORANGE-GRAPE", query.concatenateWithHyphen());
+        assertEquals(1, query.explain().lines().count());
+    }
+
+    @Test
+    @DisplayName("A sort splits the plan into two passes ...")
+    void explain_showsPasses() {
+        // given
+        WordQuery query = WordQuery.from(words)
+                .findWordsWithLengthOf(5)
+                .getWordsSortedInNaturalOrder()
+                .getWordsWithoutDuplicates()
+                .reverseEachWord();
+        // when
+        List<String> plan = query.explain().lines().toList();
+        // then
+        assertEquals(2, plan.size());
+        assertTrue(plan.get(0).contains("findWordsWithLengthOf(5) => getWordsSortedInNaturalOrder [materialize]"));
+        assertTrue(plan.get(1).contains("getWordsWithoutDuplicates -> reverseEachWord -> result"));
+        assertEquals(List.of("elppa", "eparg"), query.toList());
+        assertEquals(List.of("elppa", "eparg"), query.groupWordsByLength().get(5));
+    }
+}
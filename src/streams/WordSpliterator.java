@@ -0,0 +1,77 @@
+package streams;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A spliterator over a snapshot of a word list that splits evenly by index range.
+ * <p>
+ * Parallel streams split whatever spliterator the source list provides; for a {@code LinkedList} or a wrapped
+ * list that split is poor and a parallel run can lose to a sequential one. This spliterator copies the words
+ * into an array once and always halves its range, stopping at a minimum chunk size, and reports
+ * {@code SIZED | SUBSIZED | IMMUTABLE | ORDERED} so that {@code limit}, {@code skip} and {@code findFirst}
+ * can work on exact index ranges.
+ */
+public class WordSpliterator implements Spliterator<String> {
+
+    /** Ranges shorter than twice this are not split further. */
+    public static final int DEFAULT_MIN_CHUNK = 1024;
+
+    private final String[] words;
+    private final int minChunk;
+    private int origin;
+    private final int fence;
+
+    WordSpliterator(String[] words, int origin, int fence, int minChunk) {
+        this.words = words;
+        this.origin = origin;
+        this.fence = fence;
+        this.minChunk = Math.max(1, minChunk);
+    }
+
+    public static Stream<String> stream(List<String> words, boolean parallel) {
+        return stream(words, DEFAULT_MIN_CHUNK, parallel);
+    }
+
+    public static Stream<String> stream(List<String> words, int minChunk, boolean parallel) {
+        String[] array = words.toArray(new String[0]);
+        return StreamSupport.stream(new WordSpliterator(array, 0, array.length, minChunk), parallel);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        if (origin >= fence) return false;
+        action.accept(words[origin++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super String> action) {
+        for (int i = origin; i < fence; i++) {
+            action.accept(words[i]);
+        }
+        origin = fence;
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        int remaining = fence - origin;
+        if (remaining < 2 * minChunk) return null;
+        int mid = origin + remaining / 2;
+        Spliterator<String> prefix = new WordSpliterator(words, origin, mid, minChunk);
+        origin = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | SUBSIZED | IMMUTABLE | ORDERED;
+    }
+}
@@ -0,0 +1,79 @@
+package streams;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordSpliteratorTest {
+    // region Fields
+    List<String> words;
+    List<String> large;
+    // endregion
+
+    @BeforeEach
+    void initialize() {
+        // given
+        words = Arrays.asList("apple", "banana", "orange", "grape", "pear", "kiwi", "apple");
+        large = new LinkedList<>(UsingStreamsBenchmark.generate(20_000, UsingStreamsBenchmark.LengthDistribution.UNIFORM, 0.2, 5));
+    }
+
+    @Test
+    @DisplayName("Splits evenly down to the minimum chunk ...")
+    void trySplit_halvesUntilMinimumChunk() {
+        // given
+        WordSpliterator spliterator = new WordSpliterator(new String[10], 0, 10, 3);
+        // when
+        Spliterator<String> prefix = spliterator.trySplit();
+        // then
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, spliterator.estimateSize());
+        assertNull(spliterator.trySplit());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.ORDERED));
+    }
+
+    @Test
+    @DisplayName("Parallel ordered methods keep encounter order ...")
+    void parallelMethods_matchSequentialResults() {
+        assertEquals("orange", UsingStreams.findFirstStartsWithInParallel(words, "o"));
+        assertNull(UsingStreams.findFirstStartsWithInParallel(words, "z"));
+        assertEquals(List.of("apple", "banana", "orange"), UsingStreams.findFirstThreeWordsInParallel(words));
+        assertEquals(List.of("orange", "grape", "pear", "kiwi", "apple"), UsingStreams.getWordsSkippingFirstFewInParallel(words, 2));
+    }
+
+    @Test
+    @DisplayName("Parallel ordered methods keep encounter order across many splits ...")
+    void parallelMethods_keepOrderAcrossSplits() {
+        // given: generated words are lowercase, so only the planted ones start with "Q", all past the first chunks
+        List<String> planted = new ArrayList<>(large);
+        planted.set(12_345, "Qfirst");
+        planted.set(15_000, "Qsecond");
+        planted.set(19_999, "Qthird");
+        // then: the spliterator splits the list several times over
+        assertTrue(leaves(new WordSpliterator(planted.toArray(new String[0]), 0, planted.size(), WordSpliterator.DEFAULT_MIN_CHUNK)) >= 8);
+        assertEquals("Qfirst", UsingStreams.findFirstStartsWithInParallel(planted, "Q"));
+        assertEquals(planted.subList(0, 3), UsingStreams.findFirstThreeWordsInParallel(planted));
+        assertEquals(planted.subList(3, planted.size()), UsingStreams.getWordsSkippingFirstFewInParallel(planted, 3));
+        assertEquals(List.of("Qfirst", "Qsecond", "Qthird"),
+                WordSpliterator.stream(planted, true).filter(w -> w.startsWith("Q")).toList());
+    }
+
+    private static int leaves(Spliterator<String> spliterator) {
+        Spliterator<String> prefix = spliterator.trySplit();
+        return prefix == null ? 1 : leaves(prefix) + leaves(spliterator);
+    }
+
+    @Test
+    @DisplayName("Parallel streams over a LinkedList equal sequential ones ...")
+    void stream_linkedListInParallel() {
+        // when
+        List<String> parallel = WordSpliterator.stream(large, 64, true).filter(w -> w.startsWith("q")).toList();
+        List<String> sequential = large.stream().filter(w -> w.startsWith("q")).toList();
+        // then
+        assertEquals(sequential, parallel);
+        assertEquals(large.subList(100, large.size()), UsingStreams.getWordsSkippingFirstFewInParallel(large, 100));
+    }
+}